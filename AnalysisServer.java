@@ -0,0 +1,280 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Клас AnalysisServer завантажує та індексує файли каталогу list один раз і відповідає
+ * на запити через HTTP на локальній петлі (127.0.0.1).
+ * 
+ * <p>Після старту запит не повторює ні запуск JVM, ні розбір файлів, ні побудову колекцій:
+ * відповіді беруться з {@link ByteIndex}, {@link ByteRangeQuery}, {@link TimeSeries},
+ * {@link StringDictionary} та {@link ConcurrentPetRegistry}. Кожен запит обробляється
+ * в окремому потоці; простоюючі потоки перевикористовуються. Тривалість обробки кожного
+ * шляху записується до {@link PerformanceTracker} і виводиться під час зупинки сервера.</p>
+ * 
+ * <p>Запити (відповідь - текст UTF-8, поля розділені табуляцією). Запити, що лише читають дані,
+ * приймаються методом GET; запити, що змінюють реєстр тварин, - лише методом POST з параметрами
+ * в рядку запиту або в тілі (application/x-www-form-urlencoded). Інший метод дає відповідь 405.</p>
+ * <ul>
+ *   <li>{@code /search?value=126} - наявність, кількість і позиція значення byte</li>
+ *   <li>{@code /minmax} - найменше та найбільше значення byte</li>
+ *   <li>{@code /range?from=-10&to=10} - кількість значень byte у діапазоні та позиція першого</li>
+ *   <li>{@code /kth?k=0} - k-те найменше значення byte</li>
+ *   <li>{@code /timeseries?from=2025-03-01T00:00:00Z&to=2025-04-01T00:00:00Z} - кількість міток часу</li>
+ *   <li>{@code /prefix?prefix=W} - кількість різних значень і рядків String з префіксом</li>
+ *   <li>{@code /map/get?pet=Луна}, {@code /map/owner?owner=Олена} - пошук у реєстрі тварин</li>
+ *   <li>POST {@code /map/put} з {@code pet=Кір&owner=Богдан}, POST {@code /map/remove} з {@code pet=Луна}
+ *       - зміна реєстру тварин</li>
+ * </ul>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java AnalysisServer --port 8080
+ * curl "http://127.0.0.1:8080/search?value=126"
+ * curl -d "pet=Кір&owner=Богдан" "http://127.0.0.1:8080/map/put"
+ * }
+ * </pre>
+ */
+public class AnalysisServer {
+    private static final String USAGE_MESSAGE = "Використання: java AnalysisServer [--port <n>]\n" +
+"Приклад:\n" +
+"  java AnalysisServer --port 8080";
+
+    static final int DEFAULT_PORT = 8080;
+    /** Шляхи, що змінюють стан сервера і тому приймаються лише методом POST. */
+    private static final Set<String> MODIFYING_PATHS = Set.of("/map/put", "/map/remove");
+
+    static {
+        // без TCP_NODELAY заголовки й тіло відповіді йдуть окремими пакетами і кожен запит
+        // чекає на відкладене підтвердження (~40 мс); властивість читається при першому створенні сервера
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ByteIndex byteIndex;
+    private final ByteRangeQuery rangeQuery;
+    private final TimeSeries timeSeries;
+    private final StringDictionary dictionary;
+    private final ConcurrentPetRegistry petRegistry = new ConcurrentPetRegistry();
+
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    /**
+     * Завантажує та індексує всі дані, з якими працює сервер.
+     * 
+     * @param byteDataPath Шлях до файлу byte
+     * @param dateTimePath Шлях до файлу LocalDateTime
+     * @param stringPath Шлях до файлу String
+     * @throws IOException якщо читання міток часу не вдалося
+     */
+    public AnalysisServer(String byteDataPath, String dateTimePath, String stringPath) throws IOException {
+        SortedIndexCache indexCache = SortedIndexCache.loadOrBuild(byteDataPath);
+        this.byteIndex = indexCache.getByteIndex();
+        this.rangeQuery = indexCache.rangeQuery();
+        this.timeSeries = TimeSeries.load(dateTimePath);
+        TypedDataPipeline.StringColumn strings =
+                (TypedDataPipeline.StringColumn) TypedDataPipeline.loadColumn(stringPath, TypedDataPipeline.DataType.STRING);
+        this.dictionary = StringDictionary.build(strings.values, strings.size());
+        BasicDataOperationUsingMap.fillSampleData(petRegistry);
+    }
+
+    /**
+     * Запускає сервер на 127.0.0.1.
+     * 
+     * @param port Номер порту або 0 для вільного порту
+     * @throws IOException якщо порт недоступний
+     */
+    public void start(int port) throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        // окремий потік на кожен запит; потоки-демони не заважають завершенню JVM
+        executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "analysis-request");
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/", this::handle);
+        httpServer.start();
+    }
+
+    /**
+     * Повертає порт, на якому працює сервер.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Зупиняє сервер, дочекавшись завершення поточних запитів не довше за секунду.
+     */
+    public void stop() {
+        httpServer.stop(1);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long timeStart = System.nanoTime();
+        String path = exchange.getRequestURI().getPath();
+        String requiredMethod = MODIFYING_PATHS.contains(path) ? "POST" : "GET";
+        int status = 200;
+        String body;
+        try {
+            if (!requiredMethod.equals(exchange.getRequestMethod())) {
+                status = 405;
+                body = "Помилка: Запит " + path + " приймає лише метод " + requiredMethod + "\n";
+                exchange.getResponseHeaders().set("Allow", requiredMethod);
+            } else {
+                Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+                if ("POST".equals(requiredMethod)) {
+                    try (InputStream requestBody = exchange.getRequestBody()) {
+                        parameters.putAll(parseQuery(new String(requestBody.readAllBytes(), StandardCharsets.UTF_8)));
+                    }
+                }
+                body = answer(path, parameters);
+            }
+            if (body == null) {
+                status = 404;
+                body = "Помилка: Невідомий запит " + path + "\n";
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            status = 400;
+            body = "Помилка: " + e.getMessage() + "\n";
+        }
+
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(response);
+        }
+        PerformanceTracker.recordOperationTime("сервер " + (status == 404 ? "невідомий запит" : status == 405 ? "невірний метод" : path), System.nanoTime() - timeStart);
+    }
+
+    /**
+     * Формує відповідь на запит.
+     * 
+     * @param path Шлях запиту
+     * @param parameters Параметри запиту
+     * @return Текст відповіді або null, якщо шлях невідомий
+     * @throws IllegalArgumentException якщо параметр відсутній або має невірний формат
+     */
+    String answer(String path, Map<String, String> parameters) {
+        switch (path) {
+            case "/search": {
+                byte value = Byte.parseByte(required(parameters, "value"));
+                int count = byteIndex.count(value);
+                return value + "\t" + (count > 0) + "\t" + count + "\t" + (count > 0 ? byteIndex.rank(value) : -1) + "\n";
+            }
+            case "/minmax":
+                if (byteIndex.isEmpty()) {
+                    throw new IllegalArgumentException("Дані відсутні");
+                }
+                return byteIndex.min() + "\t" + byteIndex.max() + "\n";
+            case "/range": {
+                int from = Integer.parseInt(required(parameters, "from"));
+                int to = Integer.parseInt(required(parameters, "to"));
+                return rangeQuery.count(from, to) + "\t" + rangeQuery.startOf(from) + "\n";
+            }
+            case "/kth":
+                return rangeQuery.kthSmallest(Integer.parseInt(required(parameters, "k"))) + "\n";
+            case "/timeseries": {
+                long from = parameters.containsKey("from") ? IsoInstantParser.parseEpochSeconds(parameters.get("from")) : Long.MIN_VALUE;
+                long to = parameters.containsKey("to") ? IsoInstantParser.parseEpochSeconds(parameters.get("to")) : Long.MAX_VALUE;
+                return timeSeries.countInRange(from, to) + "\n";
+            }
+            case "/prefix": {
+                String prefix = required(parameters, "prefix");
+                return dictionary.countDistinctWithPrefix(prefix) + "\t" + dictionary.countRowsWithPrefix(prefix) + "\n";
+            }
+            // пошук і видалення не додають клички клієнта до пулу Pet: ключ рівний за equals() і без нього
+            case "/map/get":
+                return petRegistry.get(BasicDataOperationUsingMap.Pet.unpooled(required(parameters, "pet"))) + "\n";
+            case "/map/put":
+                return petRegistry.put(BasicDataOperationUsingMap.Pet.of(required(parameters, "pet")), required(parameters, "owner")) + "\n";
+            case "/map/remove":
+                return petRegistry.remove(BasicDataOperationUsingMap.Pet.unpooled(required(parameters, "pet"))) + "\n";
+            case "/map/owner":
+                return petRegistry.findPetsByOwner(required(parameters, "owner")) + "\n";
+            default:
+                return null;
+        }
+    }
+
+    private static String required(Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Відсутній параметр " + name);
+        }
+        return value;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Запускає сервер аналізу, який завантажує дані один раз і відповідає на запити до
+     * зупинки процесу. Під час зупинки виводяться перцентилі затримки обробки запитів.
+     * Той самий режим доступний як {@code java BasicDataOperation --serve ...}.
+     * 
+     * @param args Необов'язковий параметр --port
+     */
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port": port = Integer.parseInt(BasicDataOperation.optionValue(args, i++)); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        try {
+            long timeStart = System.nanoTime();
+            AnalysisServer server = new AnalysisServer(BasicDataOperation.PATH_TO_DATA_FILE,
+                    BasicDataOperation.PATH_TO_DATE_TIME_FILE, BasicDataOperation.PATH_TO_STRING_FILE);
+            PerformanceTracker.displayOperationTime(timeStart, "завантаження та індексування даних сервера");
+            server.start(port);
+            // окремі запити не виводяться, лише підсумок під час зупинки
+            PerformanceTracker.setVerbose(false);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                PerformanceTracker.printPercentileSummary();
+            }));
+            System.out.println("Сервер працює на http://127.0.0.1:" + server.getPort() + "/ (Ctrl+C для зупинки)");
+        } catch (NumberFormatException e) {
+            System.out.println("Помилка: " + e.getMessage());
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+}
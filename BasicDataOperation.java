@@ -1,11 +1,31 @@
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Загальний клас BasicDataOperation координує роботу різних структур даних.
  * 
  * <p>Цей клас служить центральною точкою для демонстрації операцій з різними
- * колекціями Java: List, Queue та Set. Він об'єднує функціональність всіх
+ * колекціями Java: List, Queue, Set та Map. Він об'єднує функціональність всіх
  * спеціалізованих класів для комплексного аналізу даних byte.</p>
  * 
+ * <p>Обробники реалізують інтерфейс {@link DataProcessor} і знаходяться через
+ * {@link ServiceLoader}; другий аргумент командного рядка обирає, які з них запускати
+ * (назви через кому або {@code all}).</p>
+ * 
  * <p>Основні можливості:</p>
  * <ul>
  *   <li>Координація операцій з різними типами колекцій</li>  
@@ -20,23 +40,67 @@
  * java BasicDataOperation "126" list
  * java BasicDataOperation "126" queue  
  * java BasicDataOperation "126" set
+ * java BasicDataOperation "126" map
+ * java BasicDataOperation "126" list,set
  * java BasicDataOperation "126" all
+ * java BasicDataOperation --external-sort --memory 1048576 --fan-in 8
+ * java BasicDataOperation --query range -10 10
  * }
  * </pre>
  */
 public class BasicDataOperation {
     static final String PATH_TO_DATA_FILE = "list/byte.data";
+    static final String PATH_TO_DATE_TIME_FILE = "list/LocalDateTime.data";
+    static final String PATH_TO_STRING_FILE = "list/String.data";
 
     byte byteValueToSearch;
-    Byte[] byteArray;
+    byte[] sourceArray;
+    byte[] byteArray;
+    ByteIndex byteIndex;
+
+    int warmupRuns = 0;
+    int measuredRuns = 1;
+    boolean parallel = false;
+    QueryResultCache.EvictionPolicy cachePolicy = null;
+    int cacheSize = QueryResultCache.DEFAULT_CAPACITY;
+    List<DataProcessor> selectedProcessors;
+    // звіт записується лише на вимогу, щоб звичайний запуск не додавав файлів до каталогу даних
+    String reportPath = null;
 
+    static final int QUERY_PRINT_LIMIT = 32;
     private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
-    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> \n" +
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> [list|queue|set|map|all] [--warmup <n>] [--runs <n>] [--report <файл.csv|файл.json>] [--parallel] [--cache lru|lfu] [--cache-size <n>]\n" +
 "Приклад:\n" +
-"  java BasicDataOperation \"2025-01-02T20:42:25Z\"";
+"  java BasicDataOperation \"2025-01-02T20:42:25Z\"\n" +
+"  java BasicDataOperation 126 list,set\n" +
+"  java BasicDataOperation 126 --warmup 20 --runs 200 --report metrics.json\n" +
+"  java BasicDataOperation 126 --parallel\n" +
+"  java BasicDataOperation 126 --runs 100 --cache lru --cache-size 256\n" +
+"Пакетний режим: java BasicDataOperation --batch <файл-запитів|-> [--output <файл>]\n" +
+"Зовнішнє сортування: java BasicDataOperation --external-sort [--input <файл>] [--memory <байти>] [--fan-in <n>]\n" +
+"Запити діапазону: java BasicDataOperation --query range <від> <до> | kth <k> | below <значення>\n" +
+"Часовий ряд: java BasicDataOperation --timeseries [--input <файл>[,<файл>...]] [--bucket minute|hour|day] [--from <дата-час>] [--to <дата-час>]\n" +
+"Словник рядків: java BasicDataOperation --strings [--input <файл>] [--lookup <рядок>] [--prefix <префікс>]\n" +
+"Сортування за мовою: java BasicDataOperation --collate [--input <файл String|Character>] [--locale <мова>]\n" +
+"Сервер аналізу: java BasicDataOperation --serve [--port <n>]";
+
+    // окремі режими мають власні точки входу; координатор лише передає їм решту аргументів
+    private static final Map<String, Consumer<String[]>> MODES = Map.of(
+            "--batch", BatchQueryProcessor::main,
+            "--external-sort", ExternalByteSorter::main,
+            "--query", ByteRangeQuery::main,
+            "--timeseries", TimeSeries::main,
+            "--strings", StringDictionary::main,
+            "--collate", CollationSorter::main,
+            "--serve", AnalysisServer::main);
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        if (args.length > 0 && MODES.containsKey(args[0])) {
+            MODES.get(args[0]).accept(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        if (args.length < 1) {
             System.out.println(USAGE_MESSAGE);
             return;
         }
@@ -52,9 +116,111 @@ public class BasicDataOperation {
         }
 
         BasicDataOperation coordinator = new BasicDataOperation();
+        try {
+            coordinator.parseOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
         coordinator.executeOperations(args);
     }
 
+    /**
+     * Розбирає вибір обробників та необов'язкові параметри повторних запусків і звіту.
+     * 
+     * @param args Аргументи командного рядка
+     * @throws IllegalArgumentException якщо параметр невідомий або має невірне значення
+     */
+    void parseOptions(String[] args) {
+        String selector = "all";
+        int firstOption = 1;
+        if (args.length > 1 && !args[1].startsWith("--")) {
+            selector = args[1];
+            firstOption = 2;
+        }
+        selectedProcessors = selectProcessors(selector, discoverProcessors());
+
+        for (int i = firstOption; i < args.length; i++) {
+            switch (args[i]) {
+                case "--warmup": warmupRuns = Integer.parseInt(optionValue(args, i++)); break;
+                case "--runs": measuredRuns = Integer.parseInt(optionValue(args, i++)); break;
+                case "--report": reportPath = optionValue(args, i++); break;
+                case "--parallel": parallel = true; break;
+                case "--cache": cachePolicy = QueryResultCache.EvictionPolicy.fromName(optionValue(args, i++)); break;
+                case "--cache-size": cacheSize = Integer.parseInt(optionValue(args, i++)); break;
+                default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+            }
+        }
+        if (warmupRuns < 0 || measuredRuns < 1) {
+            throw new IllegalArgumentException("Кількість запусків має бути додатною");
+        }
+        if (cachePolicy != null) {
+            QueryResultCache.configure(cachePolicy, cacheSize);
+        } else {
+            QueryResultCache.disable();
+        }
+    }
+
+    /**
+     * Знаходить обробники через {@link ServiceLoader}. Якщо файл реєстрації
+     * відсутній у classpath, використовуються вбудовані обробники.
+     * 
+     * @return Список обробників у порядку реєстрації
+     */
+    static List<DataProcessor> discoverProcessors() {
+        List<DataProcessor> processors = new ArrayList<>();
+        for (DataProcessor processor : ServiceLoader.load(DataProcessor.class)) {
+            processors.add(processor);
+        }
+        if (processors.isEmpty()) {
+            processors.add(new BasicDataOperationUsingList());
+            processors.add(new BasicDataOperationUsingQueue());
+            processors.add(new BasicDataOperationUsingSet());
+            processors.add(new BasicDataOperationUsingMap());
+        }
+        return processors;
+    }
+
+    /**
+     * Обирає обробники за назвами, переданими через кому, або всі для {@code all}.
+     * 
+     * @param selector Назви обробників без урахування регістру
+     * @param available Доступні обробники
+     * @return Обрані обробники у порядку реєстрації
+     * @throws IllegalArgumentException якщо назва не відповідає жодному обробнику
+     */
+    static List<DataProcessor> selectProcessors(String selector, List<DataProcessor> available) {
+        if (selector.equalsIgnoreCase("all")) {
+            return available;
+        }
+
+        List<DataProcessor> selected = new ArrayList<>();
+        for (String name : selector.split(",")) {
+            DataProcessor match = null;
+            for (DataProcessor processor : available) {
+                if (processor.getName().equalsIgnoreCase(name.trim())) {
+                    match = processor;
+                }
+            }
+            if (match == null) {
+                throw new IllegalArgumentException("Невідомий обробник " + name);
+            }
+            if (!selected.contains(match)) {
+                selected.add(match);
+            }
+        }
+        selected.sort(Comparator.comparingInt(available::indexOf));
+        return selected;
+    }
+
+    static String optionValue(String[] args, int optionIndex) {
+        if (optionIndex + 1 >= args.length) {
+            throw new IllegalArgumentException("Відсутнє значення для " + args[optionIndex]);
+        }
+        return args[optionIndex + 1];
+    }
+
     /**
      * Координує виконання операцій залежно від обраного типу.
      * 
@@ -64,13 +230,34 @@ public class BasicDataOperation {
         System.out.println(SEPARATOR);
         System.out.println("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ byte 🚀");
         System.out.println("Пошуковий параметр: " + args[0]);
+        System.out.println("Обробники: " + selectedProcessors.stream().map(DataProcessor::getName).collect(Collectors.joining(", ")));
         System.out.println(SEPARATOR);
         
         // Підготовка даних та перевірка формату
         byteValueToSearch = Byte.parseByte(args[0]);
-        byteArray = DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE);
+
+        // Гістограма будується один раз і спільно використовується всіма обробниками;
+        // якщо файл даних не змінився, індекс відображається з кешу без розбору та сортування
+        long timeStart = System.nanoTime();
+        SortedIndexCache indexCache = SortedIndexCache.loadOrBuild(PATH_TO_DATA_FILE);
+        PerformanceTracker.displayOperationTime(timeStart, indexCache.isRebuilt()
+                ? "побудова індексу byte" : "завантаження індексу byte з кешу");
+        sourceArray = indexCache.toArray();
+        byteIndex = indexCache.getByteIndex();
         
-        runAllOperations();
+        runRepeatedOperations();
+
+        System.out.println(SEPARATOR);
+        System.out.println("📊 ПЕРЦЕНТИЛІ ЗАТРИМКИ (запусків: " + measuredRuns + ", розігрів: " + warmupRuns + ")");
+        PerformanceTracker.printPercentileSummary();
+        if (QueryResultCache.active() != null) {
+            PerformanceTracker.printCounterSummary();
+            QueryResultCache.active().printReport();
+        }
+        if (reportPath != null) {
+            PerformanceTracker.exportReport(reportPath);
+            System.out.println("Звіт збережено до файлу: " + reportPath);
+        }
 
         System.out.println(SEPARATOR);
         System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
@@ -78,80 +265,191 @@ public class BasicDataOperation {
     }
 
     /**
-     * Запускає операції з колекцією List.
+     * Виконує ітерації розігріву та вимірювальні запуски всіх операцій.
      * 
-     * @param args Аргументи для передачі до класу
+     * Під час розігріву виміри не зберігаються. Кожен запуск працює з власною копією
+     * початкових даних, а детальний вивід показується лише для першого вимірювального запуску.
      */
-    private void runListOperations() {
-        System.out.println("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
-        System.out.println("-".repeat(50));
-        
+    private void runRepeatedOperations() {
+        PrintStream console = System.out;
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+
         try {
-            // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(byteValueToSearch, byteArray);
-            listProcessor.executeDataOperations();
-        } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з List: " + e.getMessage());
-            e.printStackTrace();
+            PerformanceTracker.setRecording(false);
+            PerformanceTracker.setVerbose(false);
+            System.setOut(silent);
+            for (int run = 0; run < warmupRuns; run++) {
+                byteArray = sourceArray.clone();
+                runOperations();
+            }
+
+            PerformanceTracker.setRecording(true);
+            for (int run = 0; run < measuredRuns; run++) {
+                boolean firstRun = run == 0;
+                System.setOut(firstRun ? console : silent);
+                PerformanceTracker.setVerbose(firstRun);
+                byteArray = sourceArray.clone();
+                runOperations();
+            }
+        } finally {
+            System.setOut(console);
+            PerformanceTracker.setVerbose(true);
         }
     }
 
     /**
-     * Запускає операції з колекцією Queue.
+     * Запускає операції одного обробника.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param processor Обробник даних
+     * @param data Масив byte для обробки
      */
-    private void runQueueOperations() {
-        System.out.println("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE");
+    private void runProcessor(DataProcessor processor, byte[] data) {
+        System.out.println(processor.getTitle());
         System.out.println("-".repeat(50));
         
         try {
-            // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(byteValueToSearch, byteArray);
-            queueProcessor.runDataProcessing();
+            // Передаємо обробнику дані та спільний індекс
+            processor.process(byteValueToSearch, data, byteIndex);
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
+            System.out.println("❌ Помилка при роботі з " + processor.getName() + ": " + e.getMessage());
             e.printStackTrace();
         }
     }
 
     /**
-     * Запускає операції з колекцією Set.
-     * 
-     * @param args Аргументи для передачі до класу
+     * Запускає операції послідовно або паралельно залежно від параметра --parallel.
      */
-    private void runSetOperations() {
-        System.out.println("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET");
-        System.out.println("-".repeat(50));
-        
-        try {
-            // Створення екземпляру класу з передаванням даних           
-            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(byteValueToSearch, byteArray);
-            setProcessor.executeDataAnalysis();
-        } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з Set: " + e.getMessage());
-            e.printStackTrace();
+    private void runOperations() {
+        if (parallel) {
+            runAllOperationsInParallel();
+        } else {
+            runAllOperations();
         }
     }
 
     /**
-     * Запускає операції з усіма типами колекцій для порівняння.
-     * 
-     * @param args Аргументи для передачі до класів
+     * Запускає операції з усіма обраними типами колекцій для порівняння.
      */
     private void runAllOperations() {
         System.out.println("🎯 КОМПЛЕКСНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
         System.out.println("=".repeat(60));
         
-        // Обробка List
-        runListOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
-        
-        // Обробка Queue  
-        runQueueOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
-        
-        // Обробка Set
-        runSetOperations();
+        for (int i = 0; i < selectedProcessors.size(); i++) {
+            if (i > 0) {
+                System.out.println("\n" + "~".repeat(60) + "\n");
+            }
+            runProcessor(selectedProcessors.get(i), byteArray);
+        }
+    }
+
+    /**
+     * Запускає операції з усіма обраними типами колекцій паралельно, кожну у власному потоці.
+     * 
+     * Кожен обробник отримує власну копію масиву, тому сортування на місці не
+     * впливає на інші обробники. Вивід кожного потоку накопичується окремо і
+     * друкується у порядку реєстрації обробників після завершення всіх задач.
+     */
+    private void runAllOperationsInParallel() {
+        System.out.println("🎯 ПАРАЛЕЛЬНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
+        System.out.println("=".repeat(60));
+
+        List<DataProcessor> processors = selectedProcessors;
+
+        PrintStream console = System.out;
+        ThreadRoutingOutputStream routingStream = new ThreadRoutingOutputStream(console);
+        ExecutorService executor = Executors.newFixedThreadPool(processors.size());
+
+        long timeStart = System.nanoTime();
+        List<Future<byte[]>> results = new ArrayList<>();
+        try {
+            System.setOut(new PrintStream(routingStream, true, consoleCharset()));
+            for (DataProcessor processor : processors) {
+                byte[] data = byteArray.clone();
+                results.add(executor.submit(() -> routingStream.capture(() -> runProcessor(processor, data))));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                byte[] output = results.get(i).get();
+                console.write(output, 0, output.length);
+                if (i + 1 < results.size()) {
+                    console.println("\n" + "~".repeat(60) + "\n");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            console.println("❌ Паралельний аналіз перервано.");
+        } catch (ExecutionException e) {
+            console.println("❌ Помилка під час паралельного аналізу: " + e.getCause());
+        } finally {
+            executor.shutdownNow();
+            System.setOut(console);
+        }
+
+        PerformanceTracker.displayOperationTime(timeStart, "паралельний аналіз усіх структур даних");
+    }
+
+    /**
+     * Визначає кодування консолі, щоб перехоплений вивід збігався з прямим.
+     */
+    private static Charset consoleCharset() {
+        String encoding = System.getProperty("stdout.encoding", System.getProperty("sun.stdout.encoding"));
+        return encoding != null ? Charset.forName(encoding) : Charset.defaultCharset();
+    }
+
+    /**
+     * Потік виведення, що спрямовує дані потоку-виконавця у його власний буфер.
+     * Потоки без буфера пишуть безпосередньо у вихідний потік.
+     */
+    private static final class ThreadRoutingOutputStream extends OutputStream {
+        private final PrintStream target;
+        private final ThreadLocal<ByteArrayOutputStream> buffers = new ThreadLocal<>();
+
+        ThreadRoutingOutputStream(PrintStream target) {
+            this.target = target;
+        }
+
+        /**
+         * Виконує задачу, накопичуючи весь її вивід у буфері поточного потоку.
+         * 
+         * @param task Задача для виконання
+         * @return Вивід задачі
+         */
+        byte[] capture(Runnable task) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            buffers.set(buffer);
+            try {
+                task.run();
+            } finally {
+                buffers.remove();
+            }
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public void write(int b) {
+            ByteArrayOutputStream buffer = buffers.get();
+            if (buffer != null) {
+                buffer.write(b);
+            } else {
+                target.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ByteArrayOutputStream buffer = buffers.get();
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            } else {
+                target.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (buffers.get() == null) {
+                target.flush();
+            }
+        }
     }
 }
@@ -1,26 +1,32 @@
+import java.util.ArrayList;
 import java.util.Vector;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * Клас BasicDataOperationUsingList реалізує операції з колекціями типу Vector для даних byte.
+ * Клас BasicDataOperationUsingList реалізує операції з примітивним списком {@link ByteArrayList} для даних byte.
  * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив елементів byte.</li>
- *   <li>{@link #findInArray()} - Здійснює пошук елемента в масиві byte.</li>
- *   <li>{@link #locateMinMaxInArray()} - Визначає найменше і найбільше значення в масиві.</li>
+ *   <li>{@link ByteArrayOperations#analyze(byte, byte[], ByteIndex)} - Пошук, упорядкування та граничні значення масиву byte.</li>
  *   <li>{@link #sortList()} - Сортує колекцію List з byte.</li>
  *   <li>{@link #findInList()} - Пошук конкретного значення в списку.</li>
  *   <li>{@link #locateMinMaxInList()} - Пошук мінімального і максимального значення в списку.</li>
+ *   <li>{@link #compareListImplementations()} - Порівнює тривалість операцій для Vector, ArrayList і ByteArrayList.</li>
  * </ul>
  */
-public class BasicDataOperationUsingList {
+public class BasicDataOperationUsingList implements DataProcessor {
     private byte byteValueToSearch;
-    private Byte[] byteArray;
-    private List<Byte> dateTimeList;
+    private byte[] byteArray;
+    private ByteArrayList dateTimeList;
+    private ByteIndex byteIndex;
+
+    /**
+     * Конструктор для {@link java.util.ServiceLoader}; дані передаються у {@link #process}.
+     */
+    public BasicDataOperationUsingList() {
+    }
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -28,16 +34,43 @@ public class BasicDataOperationUsingList {
      * @param byteValueToSearch Значення для пошуку
      * @param byteArray Масив byte
      */
-    BasicDataOperationUsingList(byte byteValueToSearch, Byte[] byteArray) {
+    BasicDataOperationUsingList(byte byteValueToSearch, byte[] byteArray) {
+        this(byteValueToSearch, byteArray, new ByteIndex(byteArray));
+    }
+
+    /**
+     * Конструктор, який використовує спільний індекс byte, побудований координатором.
+     * 
+     * @param byteValueToSearch Значення для пошуку
+     * @param byteArray Масив byte
+     * @param byteIndex Гістограма значень масиву byte
+     */
+    BasicDataOperationUsingList(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex) {
         this.byteValueToSearch = byteValueToSearch;
         this.byteArray = byteArray;
-        this.dateTimeList = new Vector<>(Arrays.asList(byteArray));
+        this.dateTimeList = new ByteArrayList(byteArray);
+        this.byteIndex = byteIndex;
+    }
+
+    @Override
+    public String getName() {
+        return "List";
+    }
+
+    @Override
+    public String getTitle() {
+        return "📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST";
+    }
+
+    @Override
+    public void process(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex) {
+        new BasicDataOperationUsingList(byteValueToSearch, byteArray, byteIndex).executeDataOperations();
     }
     
     /**
      * Виконує комплексні операції з структурами даних.
      * 
-     * Метод завантажує масив і список об'єктів byte, 
+     * Метод завантажує масив і список byte, 
      * здійснює сортування та пошукові операції.
      */
     public void executeDataOperations() {
@@ -50,107 +83,43 @@ public class BasicDataOperationUsingList {
         findInList();
         locateMinMaxInList();
 
-        // потім обробляємо масив чисел
-        findInArray();
-        locateMinMaxInArray();
-
-        performArraySorting();
-        
-        findInArray();
-        locateMinMaxInArray();
-
-        // зберігаємо відсортований масив до окремого файлу
-        DataFileHandler.writeArrayToFile(byteArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
-    }
-
-    /**
-     * Упорядковує масив об'єктів byte за зростанням.
-     * Фіксує та виводить тривалість операції сортування в наносекундах.
-     */
-    void performArraySorting() {
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(byteArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву чисел");
-    }
-
-    /**
-     * Здійснює пошук заданого типу даних.
-     */
-    void findInArray() {
-        long timeStart = System.nanoTime();
-
-        int position = Arrays.binarySearch(this.byteArray, byteValueToSearch);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi чисел");
+        // порівнюємо примітивний список зі стандартними реалізаціями List
+        compareListImplementations();
 
-        if (position >= 0) {
-            System.out.println("Елемент '" + byteValueToSearch + "' знайдено в масивi за позицією: " + position);
-        } else {
-            System.out.println("Елемент '" + byteValueToSearch + "' відсутній в масиві.");
-        }
-    }
-
-    /**
-     * Визначає найменше та найбільше значення в масиві чисел.
-     */
-    void locateMinMaxInArray() {
-        if (byteArray == null || byteArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
-            return;
-        }
-
-        long timeStart = System.nanoTime();
-
-        byte minValue = byteArray[0];
-        byte maxValue = byteArray[0];
-
-        for (byte currentDateTime : byteArray) {
-            if (byteValueToSearch < minValue) {
-                minValue = currentDateTime;
-            }
-            if (byteValueToSearch > maxValue) {
-                maxValue = currentDateTime;
-            }
-        }
-
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа в масивi");
-
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        // потім обробляємо масив чисел
+        ByteArrayOperations.analyze(byteValueToSearch, byteArray, byteIndex);
     }
 
     /**
-     * Шукає конкретне значення чисел в колекції Vector.
+     * Шукає конкретне значення чисел у впорядкованому ByteArrayList без упаковки.
      */
     void findInList() {
         long timeStart = System.nanoTime();
 
-        int position = Collections.binarySearch(this.dateTimeList, byteValueToSearch);
+        int position = dateTimeList.binarySearch(byteValueToSearch);
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в List чисел");        
 
         if (position >= 0) {
-            System.out.println("Елемент '" + byteValueToSearch + "' знайдено в Vector за позицією: " + position);
+            System.out.println("Елемент '" + byteValueToSearch + "' знайдено в ByteArrayList за позицією: " + position);
         } else {
-            System.out.println("Елемент '" + byteValueToSearch + "' відсутній в Vector.");
+            System.out.println("Елемент '" + byteValueToSearch + "' відсутній в ByteArrayList.");
         }
     }
 
     /**
-     * Визначає найменше і найбільше значення в колекції Vector з числами.
+     * Визначає найменше і найбільше значення в ByteArrayList з числами.
      */
     void locateMinMaxInList() {
         if (dateTimeList == null || dateTimeList.isEmpty()) {
-            System.out.println("Колекція Vector є пустою або не ініціалізованою.");
+            System.out.println("Колекція ByteArrayList є пустою або не ініціалізованою.");
             return;
         }
 
         long timeStart = System.nanoTime();
 
-        byte minValue = Collections.min(dateTimeList);
-        byte maxValue = Collections.max(dateTimeList);
+        byte minValue = dateTimeList.min();
+        byte maxValue = dateTimeList.max();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа в List");
 
@@ -165,8 +134,76 @@ public class BasicDataOperationUsingList {
     void sortList() {
         long timeStart = System.nanoTime();
 
-        Collections.sort(dateTimeList);
+        dateTimeList.sort();
+
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування ByteArrayList числа");
+    }
+
+    /**
+     * Виконує сортування, пошук і визначення мiнiмуму та максимуму на копіях даних у Vector,
+     * ArrayList і ByteArrayList та виводить тривалість операцій поруч.
+     * Кожен вимір також зберігається у {@link PerformanceTracker} під назвою операції з реалізацією.
+     */
+    void compareListImplementations() {
+        String[] implementations = {"Vector", "ArrayList", "ByteArrayList"};
+        String[] operations = {"упорядкування", "пошук елемента", "мiнiмум i максимум"};
+        long[][] times = new long[implementations.length][];
+
+        // об'єкти Byte потрібні лише стандартним спискам, тому масив упаковується тільки тут
+        List<Byte> boxedValues = new ByteArrayList(byteArray);
+        times[0] = measureBoxedList(new Vector<>(boxedValues));
+        times[1] = measureBoxedList(new ArrayList<>(boxedValues));
+        times[2] = measurePrimitiveList(new ByteArrayList(byteArray));
+
+        System.out.println(String.format("%n%-20s %15s %15s %15s", "Операція, нс",
+                implementations[0], implementations[1], implementations[2]));
+        for (int operation = 0; operation < operations.length; operation++) {
+            System.out.println(String.format("%-20s %15d %15d %15d", operations[operation],
+                    times[0][operation], times[1][operation], times[2][operation]));
+            for (int implementation = 0; implementation < implementations.length; implementation++) {
+                PerformanceTracker.recordOperationTime(operations[operation] + " " + implementations[implementation],
+                        times[implementation][operation]);
+            }
+        }
+    }
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування Vector числа");
+    private long[] measureBoxedList(List<Byte> list) {
+        long[] times = new long[3];
+
+        long timeStart = System.nanoTime();
+        Collections.sort(list);
+        times[0] = System.nanoTime() - timeStart;
+
+        timeStart = System.nanoTime();
+        Collections.binarySearch(list, byteValueToSearch);
+        times[1] = System.nanoTime() - timeStart;
+
+        if (!list.isEmpty()) {
+            timeStart = System.nanoTime();
+            Collections.min(list);
+            Collections.max(list);
+            times[2] = System.nanoTime() - timeStart;
+        }
+        return times;
+    }
+
+    private long[] measurePrimitiveList(ByteArrayList list) {
+        long[] times = new long[3];
+
+        long timeStart = System.nanoTime();
+        list.sort();
+        times[0] = System.nanoTime() - timeStart;
+
+        timeStart = System.nanoTime();
+        list.binarySearch(byteValueToSearch);
+        times[1] = System.nanoTime() - timeStart;
+
+        if (!list.isEmpty()) {
+            timeStart = System.nanoTime();
+            list.min();
+            list.max();
+            times[2] = System.nanoTime() - timeStart;
+        }
+        return times;
     }
 }
\ No newline at end of file
@@ -1,14 +1,34 @@
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Hashtable;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Клас BasicDataOperationUsingMap реалізує операції з колекціями типу Map для зберігання пар ключ-значення.
  * 
+ * <p>Hashtable і TreeMap обгорнуті у {@link PetRegistry}, який підтримує індекс власник -> тварини,
+ * тому пошук і видалення за значенням не потребують сортування чи повного перебору записів.
+ * Ті самі операції виконуються і над потокобезпечним {@link ConcurrentPetRegistry}.</p>
+ * 
+ * <p>Результати пошуку за ключем і за значенням беруться з {@link QueryResultCache}, якщо його
+ * увімкнено. Версією даних є {@link PetRegistry#version()}: повторний пошук без змін між
+ * ними влучає в кеш, а після додавання чи видалення запису пошук іде за новою версією,
+ * тож застарілі результати не повертаються і з часом витісняються.</p>
+ * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними Map.</li>
@@ -21,43 +41,122 @@ import java.util.TreeMap;
  *   <li>{@link #sortByValue()} - Сортує Map за значеннями.</li>
  * </ul>
  */
-public class BasicDataOperationUsingMap {
-    private final Pet KEY_TO_SEARCH_AND_DELETE = new Pet("Луна");
-    private final Pet KEY_TO_ADD = new Pet("Кір");
+public class BasicDataOperationUsingMap implements DataProcessor {
+    private final Pet KEY_TO_SEARCH_AND_DELETE = Pet.of("Луна");
+    private final Pet KEY_TO_ADD = Pet.of("Кір");
 
     private final String VALUE_TO_SEARCH_AND_DELETE = "Олена";
     private final String VALUE_TO_ADD = "Богдан";
 
-    private Hashtable<Pet, String> hashtable;
-    private TreeMap<Pet, String> treeMap;
+    private static final String FIND_BY_KEY = "findByKey";
+    private static final String FIND_BY_VALUE = "findByValue";
 
-    /**
-     * Компаратор для сортування Map.Entry за значеннями String.
-     * Використовує метод String.compareTo() для порівняння імен власників.
-     */
-    static class OwnerValueComparator implements Comparator<Map.Entry<Pet, String>> {
-        @Override
-        public int compare(Map.Entry<Pet, String> e1, Map.Entry<Pet, String> e2) {
-            String v1 = e1.getValue();
-            String v2 = e2.getValue();
-            if (v1 == null && v2 == null) return 0;
-            if (v1 == null) return -1;
-            if (v2 == null) return 1;
-            return v1.compareTo(v2);
-        }
-    }
+    private PetRegistry hashtable;
+    private PetRegistry treeMap;
+    private ConcurrentPetRegistry concurrentMap;
 
     /**
      * Внутрішній клас Pet для зберігання інформації про домашню тварину.
      * 
      * Реалізує Comparable<Pet> для визначення природного порядку сортування.
-     * Природний порядок: за кличкою (nickname) в алфавітному порядку.
+     * Природний порядок: за кличкою (nickname) в українському алфавітному порядку.
+     * 
+     * Екземпляри створюються лише через {@link #of(String)} і повторно використовуються
+     * (flyweight): для кожної клички існує один об'єкт з обчисленим наперед хеш-кодом
+     * та ключем сортування {@link CollationKey} для локалі uk-UA, який обчислюється під час
+     * першого порівняння (пошук у хеш-таблицях його не потребує).
+     * 
+     * Пул тримає екземпляри через слабкі посилання: Pet, на який більше ніщо не посилається
+     * (наприклад, видалений з усіх реєстрів), звільняється збирачем сміття, а його запис
+     * у пулі прибирається під час наступного виклику {@link #of(String)}.
      */
     public static class Pet implements Comparable<Pet> {
+        private static final Collator UKRAINIAN_COLLATOR = Collator.getInstance(Locale.forLanguageTag("uk-UA"));
+        private static final ConcurrentHashMap<String, PooledPet> POOL = new ConcurrentHashMap<>();
+        private static final ReferenceQueue<Pet> RELEASED = new ReferenceQueue<>();
+        private static final Pet UNNAMED = new Pet(null);
+
+        /**
+         * Слабке посилання на екземпляр у пулі; кличка потрібна, щоб прибрати запис
+         * після того, як екземпляр звільнено.
+         */
+        private static final class PooledPet extends WeakReference<Pet> {
+            private final String nickname;
+
+            PooledPet(Pet pet) {
+                super(pet, RELEASED);
+                this.nickname = pet.nickname;
+            }
+        }
+
         private final String nickname;
+        private final int hash;
+        // обчислюється лише раз; CollationKey незмінний, тож гонка між потоками безпечна
+        private CollationKey sortKey;
 
-        public Pet(String nickname) {
+        private Pet(String nickname) {
             this.nickname = nickname;
+            this.hash = nickname != null ? nickname.hashCode() : 0;
+        }
+
+        /**
+         * Повертає єдиний екземпляр Pet для заданої клички, створюючи його за потреби.
+         * 
+         * @param nickname кличка тварини
+         * @return спільний екземпляр Pet
+         */
+        public static Pet of(String nickname) {
+            if (nickname == null) {
+                return UNNAMED;
+            }
+            purgeReleased();
+
+            PooledPet pooled = POOL.get(nickname);
+            Pet pet = pooled != null ? pooled.get() : null;
+            if (pet != null) {
+                return pet;
+            }
+            Pet[] result = new Pet[1];
+            POOL.compute(nickname, (key, current) -> {
+                result[0] = current != null ? current.get() : null;
+                if (result[0] != null) {
+                    return current;
+                }
+                result[0] = new Pet(key);
+                return new PooledPet(result[0]);
+            });
+            return result[0];
+        }
+
+        private CollationKey sortKey() {
+            CollationKey key = sortKey;
+            if (key == null) {
+                key = UKRAINIAN_COLLATOR.getCollationKey(nickname);
+                sortKey = key;
+            }
+            return key;
+        }
+
+        /**
+         * Створює окремий екземпляр Pet, що не потрапляє до пулу. Призначений для тимчасових
+         * ключів (декодованих з даних поза купою на час обходу або отриманих від клієнта для
+         * пошуку), які не мають залишатися в пам'яті.
+         * 
+         * @param nickname кличка тварини
+         * @return новий екземпляр Pet, рівний за equals() екземпляру з пулу
+         */
+        static Pet unpooled(String nickname) {
+            return nickname == null ? UNNAMED : new Pet(nickname);
+        }
+
+        /**
+         * Прибирає з пулу записи звільнених екземплярів. Виконується під час кожного
+         * {@link #of(String)}; окремий виклик потрібен лише для точного вимірювання купи.
+         */
+        static void purgeReleased() {
+            for (Reference<? extends Pet> released; (released = RELEASED.poll()) != null; ) {
+                POOL.remove(((PooledPet) released).nickname, released);
+            }
         }
 
         public String getNickname() { 
@@ -73,7 +172,10 @@ public class BasicDataOperationUsingMap {
          *         0, якщо цей Pet == other; 
          *         позитивне число, якщо цей Pet > other
          * 
-         * Критерій порівняння: поле nickname (кличка тварини).
+         * Критерій порівняння: поле nickname (кличка тварини) за правилами української абетки.
+         * Порівнюються ключі {@link CollationKey}, обчислені один раз для кожного екземпляра,
+         * тому колатор не викликається під час кожного порівняння. Якщо ключі рівні, а клички різні,
+         * порядок визначає String.compareTo() для узгодженості з equals().
          * 
          * Цей метод використовується:
          * - TreeMap для автоматичного сортування ключів Pet за nickname
@@ -86,7 +188,8 @@ public class BasicDataOperationUsingMap {
             if (this.nickname == null && other.nickname == null) return 0;
             if (this.nickname == null) return -1;
             if (other.nickname == null) return 1;
-            return this.nickname.compareTo(other.nickname);
+            int result = this.sortKey().compareTo(other.sortKey());
+            return result != 0 ? result : this.nickname.compareTo(other.nickname);
         }
 
         /**
@@ -106,13 +209,14 @@ public class BasicDataOperationUsingMap {
             if (this == obj) return true;
             if (obj == null || getClass() != obj.getClass()) return false;
             Pet pet = (Pet) obj;
+            if (hash != pet.hash) return false;
             return nickname != null ? nickname.equals(pet.nickname) : pet.nickname == null;
         }
 
         /**
          * Повертає хеш-код для цього Pet.
          * 
-         * @return хеш-код, обчислений на основі nickname
+         * @return хеш-код, обчислений на основі nickname під час створення об'єкта
          * 
          * Базується на полі nickname для узгодженості з equals().
          * 
@@ -121,7 +225,7 @@ public class BasicDataOperationUsingMap {
          */
         @Override
         public int hashCode() {
-            return nickname != null ? nickname.hashCode() : 0;
+            return hash;
         }
 
         /**
@@ -135,15 +239,58 @@ public class BasicDataOperationUsingMap {
         }
     }
 
+    /**
+     * Конструктор для {@link java.util.ServiceLoader}, який ініціалізує об'єкт початковими даними.
+     */
+    public BasicDataOperationUsingMap() {
+        this(new Hashtable<>(), new TreeMap<>());
+        fillSampleData(hashtable);
+        fillSampleData(treeMap);
+        fillSampleData(concurrentMap);
+    }
+
     /**
      * Конструктор, який ініціалізує об'єкт з готовими даними.
      * 
      * @param hashtable Hashtable з початковими даними (ключ: Pet, значення: ім'я власника)
      * @param treeMap TreeMap з початковими даними (ключ: Pet, значення: ім'я власника)
+     * 
+     * Вміст hashtable також копіюється до {@link ConcurrentPetRegistry}.
      */
     BasicDataOperationUsingMap(Hashtable<Pet, String> hashtable, TreeMap<Pet, String> treeMap) {
+        this(new PetRegistry(hashtable), new PetRegistry(treeMap));
+    }
+
+    /**
+     * Конструктор, який використовує готові реєстри (наприклад, {@link PersistentPetRegistry}).
+     * 
+     * @param hashtable Реєстр на основі Hashtable
+     * @param treeMap Реєстр на основі TreeMap
+     * 
+     * Вміст hashtable також копіюється до {@link ConcurrentPetRegistry}.
+     */
+    BasicDataOperationUsingMap(PetRegistry hashtable, PetRegistry treeMap) {
         this.hashtable = hashtable;
         this.treeMap = treeMap;
+        this.concurrentMap = new ConcurrentPetRegistry(hashtable);
+    }
+
+    @Override
+    public String getName() {
+        return "Map";
+    }
+
+    @Override
+    public String getTitle() {
+        return "🗂 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ MAP";
+    }
+
+    /**
+     * Виконує операції з Map над початковими даними; дані byte не використовуються.
+     */
+    @Override
+    public void process(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex) {
+        new BasicDataOperationUsingMap().executeDataOperations();
     }
     
     /**
@@ -190,16 +337,34 @@ public class BasicDataOperationUsingMap {
         removeByValueFromTreeMap();
         
         System.out.println("Кінцевий розмір TreeMap: " + treeMap.size());
+
+        // Наостанок виконуємо ті самі операції з ConcurrentHashMap
+        System.out.println("\n\n========= Операції з ConcurrentHashMap =========");
+        System.out.println("Початковий розмір ConcurrentHashMap: " + concurrentMap.size());
+
+        findByKeyInConcurrentMap();
+        findByValueInConcurrentMap();
+
+        addEntryToConcurrentMap();
+
+        removeByKeyFromConcurrentMap();
+        removeByValueFromConcurrentMap();
+
+        System.out.println("Кінцевий розмір ConcurrentHashMap: " + concurrentMap.size());
     }
 
 
+    private static QueryResultCache.Key cacheKey(String source, long version, String operation, Object argument) {
+        return new QueryResultCache.Key(source, version, operation, argument);
+    }
+
     // ===== Методи для Hashtable =====
 
     /**
      * Виводить вміст Hashtable без сортування.
      * Hashtable не гарантує жодного порядку елементів.
      */
-    private void printHashtable() {
+    void printHashtable() {
         System.out.println("\n=== Пари ключ-значення в Hashtable ===");
         long timeStart = System.nanoTime();
 
@@ -211,27 +376,24 @@ public class BasicDataOperationUsingMap {
     }
 
     /**
-     * Сортує Hashtable за ключами.
+     * Сортує ключі Hashtable.
      * Використовує Collections.sort() з природним порядком Pet (Pet.compareTo()).
-     * Перезаписує hashtable відсортованими даними.
+     * Вимірюється лише сортування списку ключів: Hashtable не зберігає порядок
+     * вставки, тому заповнення нової таблиці відсортованими ключами нічого б не
+     * впорядкувало, а для постійного реєстру перезапис лише дописав би до журналу
+     * очищення та повторне додавання всіх записів.
+     * 
+     * @return Ключі Hashtable за зростанням
      */
-    private void sortHashtable() {
+    List<Pet> sortHashtable() {
         long timeStart = System.nanoTime();
 
         // Створюємо список ключів і сортуємо за природним порядком Pet
         List<Pet> sortedKeys = new ArrayList<>(hashtable.keySet());
         Collections.sort(sortedKeys);
-        
-        // Створюємо нову Hashtable з відсортованими ключами
-        Hashtable<Pet, String> sortedHashtable = new Hashtable<>();
-        for (Pet key : sortedKeys) {
-            sortedHashtable.put(key, hashtable.get(key));
-        }
-        
-        // Перезаписуємо оригінальну hashtable
-        hashtable = sortedHashtable;
 
         PerformanceTracker.displayOperationTime(timeStart, "сортування Hashtable за ключами");
+        return sortedKeys;
     }
 
     /**
@@ -241,12 +403,12 @@ public class BasicDataOperationUsingMap {
     void findByKeyInHashtable() {
         long timeStart = System.nanoTime();
 
-        boolean found = hashtable.containsKey(KEY_TO_SEARCH_AND_DELETE);
+        String value = QueryResultCache.lookup(cacheKey("Hashtable", hashtable.version(), FIND_BY_KEY, KEY_TO_SEARCH_AND_DELETE),
+                () -> hashtable.get(KEY_TO_SEARCH_AND_DELETE));
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в Hashtable");
 
-        if (found) {
-            String value = hashtable.get(KEY_TO_SEARCH_AND_DELETE);
+        if (value != null) {
             System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
         } else {
             System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в Hashtable.");
@@ -255,30 +417,18 @@ public class BasicDataOperationUsingMap {
 
     /**
      * Здійснює пошук елемента за значенням в Hashtable.
-     * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
+     * Використовує індекс власників {@link PetRegistry} (O(1)).
      */
     void findByValueInHashtable() {
         long timeStart = System.nanoTime();
 
-        // Створюємо список Entry та сортуємо за значеннями
-        List<Map.Entry<Pet, String>> entries = new ArrayList<>(hashtable.entrySet());
-        OwnerValueComparator comparator = new OwnerValueComparator();
-        Collections.sort(entries, comparator);
-
-        // Створюємо тимчасовий Entry для пошуку
-        Map.Entry<Pet, String> searchEntry = new Map.Entry<Pet, String>() {
-            public Pet getKey() { return null; }
-            public String getValue() { return VALUE_TO_SEARCH_AND_DELETE; }
-            public String setValue(String value) { return null; }
-        };
-
-        int position = Collections.binarySearch(entries, searchEntry, comparator);
+        Set<Pet> pets = QueryResultCache.lookup(cacheKey("Hashtable", hashtable.version(), FIND_BY_VALUE, VALUE_TO_SEARCH_AND_DELETE),
+                () -> Collections.unmodifiableSet(new LinkedHashSet<>(hashtable.findPetsByOwner(VALUE_TO_SEARCH_AND_DELETE))));
 
-        PerformanceTracker.displayOperationTime(timeStart, "бінарний пошук за значенням в Hashtable");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за значенням в Hashtable");
 
-        if (position >= 0) {
-            Map.Entry<Pet, String> foundEntry = entries.get(position);
-            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + foundEntry.getKey());
+        if (!pets.isEmpty()) {
+            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + pets);
         } else {
             System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в Hashtable.");
         }
@@ -316,24 +466,16 @@ public class BasicDataOperationUsingMap {
 
     /**
      * Видаляє записи з Hashtable за значенням.
+     * Використовує індекс власників {@link PetRegistry} (O(k), k - кількість тварин власника).
      */
     void removeByValueFromHashtable() {
         long timeStart = System.nanoTime();
 
-        List<Pet> keysToRemove = new ArrayList<>();
-        for (Map.Entry<Pet, String> entry : hashtable.entrySet()) {
-            if (entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE)) {
-                keysToRemove.add(entry.getKey());
-            }
-        }
-        
-        for (Pet key : keysToRemove) {
-            hashtable.remove(key);
-        }
+        Set<Pet> removedPets = hashtable.removeByOwner(VALUE_TO_SEARCH_AND_DELETE);
 
         PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з Hashtable");
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+        System.out.println("Видалено " + removedPets.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
     }
 
     // ===== Методи для TreeMap =====
@@ -342,7 +484,7 @@ public class BasicDataOperationUsingMap {
      * Виводить вміст TreeMap.
      * TreeMap автоматично відсортована за ключами (Pet nickname).
      */
-    private void printTreeMap() {
+    void printTreeMap() {
         System.out.println("\n=== Пари ключ-значення в TreeMap ===");
 
         long timeStart = System.nanoTime();
@@ -360,12 +502,12 @@ public class BasicDataOperationUsingMap {
     void findByKeyInTreeMap() {
         long timeStart = System.nanoTime();
 
-        boolean found = treeMap.containsKey(KEY_TO_SEARCH_AND_DELETE);
+        String value = QueryResultCache.lookup(cacheKey("TreeMap", treeMap.version(), FIND_BY_KEY, KEY_TO_SEARCH_AND_DELETE),
+                () -> treeMap.get(KEY_TO_SEARCH_AND_DELETE));
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в TreeMap");
 
-        if (found) {
-            String value = treeMap.get(KEY_TO_SEARCH_AND_DELETE);
+        if (value != null) {
             System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
         } else {
             System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
@@ -374,30 +516,18 @@ public class BasicDataOperationUsingMap {
 
     /**
      * Здійснює пошук елемента за значенням в TreeMap.
-     * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
+     * Використовує індекс власників {@link PetRegistry} (O(1)).
      */
     void findByValueInTreeMap() {
         long timeStart = System.nanoTime();
 
-        // Створюємо список Entry та сортуємо за значеннями
-        List<Map.Entry<Pet, String>> entries = new ArrayList<>(treeMap.entrySet());
-        OwnerValueComparator comparator = new OwnerValueComparator();
-        Collections.sort(entries, comparator);
-
-        // Створюємо тимчасовий Entry для пошуку
-        Map.Entry<Pet, String> searchEntry = new Map.Entry<Pet, String>() {
-            public Pet getKey() { return null; }
-            public String getValue() { return VALUE_TO_SEARCH_AND_DELETE; }
-            public String setValue(String value) { return null; }
-        };
+        Set<Pet> pets = QueryResultCache.lookup(cacheKey("TreeMap", treeMap.version(), FIND_BY_VALUE, VALUE_TO_SEARCH_AND_DELETE),
+                () -> Collections.unmodifiableSet(new LinkedHashSet<>(treeMap.findPetsByOwner(VALUE_TO_SEARCH_AND_DELETE))));
 
-        int position = Collections.binarySearch(entries, searchEntry, comparator);
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за значенням в TreeMap");
 
-        PerformanceTracker.displayOperationTime(timeStart, "бінарний пошук за значенням в TreeMap");
-
-        if (position >= 0) {
-            Map.Entry<Pet, String> foundEntry = entries.get(position);
-            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + foundEntry.getKey());
+        if (!pets.isEmpty()) {
+            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + pets);
         } else {
             System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
         }
@@ -435,58 +565,176 @@ public class BasicDataOperationUsingMap {
 
     /**
      * Видаляє записи з TreeMap за значенням.
+     * Використовує індекс власників {@link PetRegistry} (O(k), k - кількість тварин власника).
      */
     void removeByValueFromTreeMap() {
         long timeStart = System.nanoTime();
 
-        List<Pet> keysToRemove = new ArrayList<>();
-        for (Map.Entry<Pet, String> entry : treeMap.entrySet()) {
-            if (entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE)) {
-                keysToRemove.add(entry.getKey());
-            }
+        Set<Pet> removedPets = treeMap.removeByOwner(VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з TreeMap");
+
+        System.out.println("Видалено " + removedPets.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+    }
+
+    // ===== Методи для ConcurrentHashMap =====
+
+    /**
+     * Здійснює пошук елемента за ключем в ConcurrentHashMap без блокування.
+     */
+    void findByKeyInConcurrentMap() {
+        long timeStart = System.nanoTime();
+
+        String value = QueryResultCache.lookup(cacheKey("ConcurrentHashMap", concurrentMap.version(), FIND_BY_KEY, KEY_TO_SEARCH_AND_DELETE),
+                () -> concurrentMap.get(KEY_TO_SEARCH_AND_DELETE));
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в ConcurrentHashMap");
+
+        if (value != null) {
+            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
+        } else {
+            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в ConcurrentHashMap.");
         }
-        
-        for (Pet key : keysToRemove) {
-            treeMap.remove(key);
+    }
+
+    /**
+     * Здійснює пошук елемента за значенням в ConcurrentHashMap.
+     * Використовує індекс власників {@link ConcurrentPetRegistry} (O(1)).
+     */
+    void findByValueInConcurrentMap() {
+        long timeStart = System.nanoTime();
+
+        Set<Pet> pets = QueryResultCache.lookup(cacheKey("ConcurrentHashMap", concurrentMap.version(), FIND_BY_VALUE, VALUE_TO_SEARCH_AND_DELETE),
+                () -> Collections.unmodifiableSet(new LinkedHashSet<>(concurrentMap.findPetsByOwner(VALUE_TO_SEARCH_AND_DELETE))));
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук за значенням в ConcurrentHashMap");
+
+        if (!pets.isEmpty()) {
+            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + pets);
+        } else {
+            System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в ConcurrentHashMap.");
         }
+    }
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з TreeMap");
+    /**
+     * Додає новий запис до ConcurrentHashMap.
+     */
+    void addEntryToConcurrentMap() {
+        long timeStart = System.nanoTime();
+
+        concurrentMap.put(KEY_TO_ADD, VALUE_TO_ADD);
+
+        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до ConcurrentHashMap");
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+        System.out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+    }
+
+    /**
+     * Видаляє запис з ConcurrentHashMap за ключем.
+     */
+    void removeByKeyFromConcurrentMap() {
+        long timeStart = System.nanoTime();
+
+        String removedValue = concurrentMap.remove(KEY_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з ConcurrentHashMap");
+
+        if (removedValue != null) {
+            System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+        } else {
+            System.out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+        }
+    }
+
+    /**
+     * Видаляє записи з ConcurrentHashMap за значенням.
+     * Використовує індекс власників {@link ConcurrentPetRegistry} (O(k), k - кількість тварин власника).
+     */
+    void removeByValueFromConcurrentMap() {
+        long timeStart = System.nanoTime();
+
+        Set<Pet> removedPets = concurrentMap.removeByOwner(VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з ConcurrentHashMap");
+
+        System.out.println("Видалено " + removedPets.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+    }
+
+    /**
+     * Заповнює Map початковими даними (ключ: Pet, значення: ім'я власника).
+     * 
+     * @param map Map для заповнення
+     */
+    static void fillSampleData(Map<Pet, String> map) {
+        map.put(Pet.of("Тум"), "Андрій");
+        map.put(Pet.of("Луна"), "Ірина");
+        map.put(Pet.of("Міро"), "Олена");
+        map.put(Pet.of("Нала"), "Олена");
+        map.put(Pet.of("Тайсон"), "Ірина");
+        map.put(Pet.of("Барсик"), "Андрій");
+        map.put(Pet.of("Ґуфі"), "Тимофій");
+        map.put(Pet.of("Боні"), "Поліна");
+        map.put(Pet.of("Муся"), "Стефанія");
+        map.put(Pet.of("Чіпо"), "Ярослав");
     }
 
     /**
      * Головний метод для запуску програми.
+     * 
+     * Без аргументів працює з початковими даними в пам'яті. Якщо передано каталог,
+     * Hashtable і TreeMap відновлюються з диска ({@link PersistentPetRegistry}) і всі зміни
+     * зберігаються до наступного запуску; порожній реєстр заповнюється початковими даними.
+     * 
+     * <pre>
+     * {@code
+     * java BasicDataOperationUsingMap
+     * java BasicDataOperationUsingMap registry
+     * }
+     * </pre>
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            runPersistent(Paths.get(args[0]));
+            return;
+        }
+
         // Створюємо початкові дані (ключ: Pet, значення: ім'я власника)
         Hashtable<Pet, String> hashtable = new Hashtable<>();
-        hashtable.put(new Pet("Тум"), "Андрій");
-        hashtable.put(new Pet("Луна"), "Ірина");
-        hashtable.put(new Pet("Міро"), "Олена");
-        hashtable.put(new Pet("Нала"), "Олена");
-        hashtable.put(new Pet("Тайсон"), "Ірина");
-        hashtable.put(new Pet("Барсик"), "Андрій");
-        hashtable.put(new Pet("Ґуфі"), "Тимофій");
-        hashtable.put(new Pet("Боні"), "Поліна");
-        hashtable.put(new Pet("Муся"), "Стефанія");
-        hashtable.put(new Pet("Чіпо"), "Ярослав");
-
-        TreeMap<Pet, String> treeMap = new TreeMap<Pet, String>() {{
-            put(new Pet("Тум"), "Андрій");
-            put(new Pet("Луна"), "Ірина");
-            put(new Pet("Міро"), "Олена");
-            put(new Pet("Нала"), "Олена");
-            put(new Pet("Тайсон"), "Ірина");
-            put(new Pet("Барсик"), "Андрій");
-            put(new Pet("Ґуфі"), "Тимофій");
-            put(new Pet("Боні"), "Поліна");
-            put(new Pet("Муся"), "Стефанія");
-            put(new Pet("Чіпо"), "Ярослав");
-        }};
+        fillSampleData(hashtable);
+
+        TreeMap<Pet, String> treeMap = new TreeMap<>();
+        fillSampleData(treeMap);
 
         // Створюємо об'єкт і виконуємо операції
         BasicDataOperationUsingMap operations = new BasicDataOperationUsingMap(hashtable, treeMap);
         operations.executeDataOperations();
     }
+
+    /**
+     * Виконує операції над реєстрами, що зберігаються у заданому каталозі.
+     * 
+     * @param directory Каталог з підкаталогами hashtable і treemap
+     */
+    private static void runPersistent(Path directory) {
+        try (PersistentPetRegistry hashtable = PersistentPetRegistry.open(directory.resolve("hashtable"), new Hashtable<>());
+             PersistentPetRegistry treeMap = PersistentPetRegistry.open(directory.resolve("treemap"), new TreeMap<>())) {
+            for (PersistentPetRegistry registry : List.of(hashtable, treeMap)) {
+                System.out.println("Відновлено " + registry.size() + " записів за " + registry.getRecoveryNanos()
+                        + " нс (зі знімка: " + registry.getSnapshotEntries()
+                        + ", із журналу: " + registry.getReplayedRecords() + ")");
+                if (registry.isEmpty()) {
+                    fillSampleData(registry);
+                }
+            }
+
+            new BasicDataOperationUsingMap(hashtable, treeMap).executeDataOperations();
+
+            long timeStart = System.nanoTime();
+            hashtable.snapshot();
+            treeMap.snapshot();
+            PerformanceTracker.displayOperationTime(timeStart, "збереження знімків реєстрів");
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Помилка: " + e.getMessage());
+        }
+    }
 }
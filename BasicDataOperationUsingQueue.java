@@ -1,27 +1,28 @@
-import java.util.Queue;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.PriorityQueue;
 
 /**
- * Клас BasicDataOperationUsingQueue реалізує роботу з колекціями типу Queue для byte.
+ * Клас BasicDataOperationUsingQueue реалізує роботу з пріоритетною чергою {@link ByteBucketQueue} для byte.
  * 
  * <p>Основні функції класу:</p>
  * <ul>
  *   <li>{@link #runDataProcessing()} - Запускає комплекс операцій з даними.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив byte.</li>
- *   <li>{@link #findInArray()} - Пошук значення в масиві byte.</li>
- *   <li>{@link #locateMinMaxInArray()} - Знаходить мінімальне і максимальне значення в масиві.</li>
+ *   <li>{@link ByteArrayOperations#analyze(byte, byte[], ByteIndex)} - Пошук, упорядкування та граничні значення масиву byte.</li>
  *   <li>{@link #findInQueue()} - Пошук значення в черзі byte.</li>
  *   <li>{@link #locateMinMaxInQueue()} - Знаходить граничні значення в черзі.</li>
  *   <li>{@link #performQueueOperations()} - Виконує операції peek і poll з чергою.</li>
  * </ul>
  * 
  */
-public class BasicDataOperationUsingQueue {
+public class BasicDataOperationUsingQueue implements DataProcessor {
     private byte byteValueToSearch;
-    private Byte[] byteArray;
-    private Queue<Byte> dateTimeQueue;
+    private byte[] byteArray;
+    private ByteBucketQueue dateTimeQueue;
+    private ByteIndex byteIndex;
+
+    /**
+     * Конструктор для {@link java.util.ServiceLoader}; дані передаються у {@link #process}.
+     */
+    public BasicDataOperationUsingQueue() {
+    }
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -29,10 +30,37 @@ public class BasicDataOperationUsingQueue {
      * @param byteValueToSearch Значення для пошуку
      * @param byteArray Масив byte
      */
-    BasicDataOperationUsingQueue(byte byteValueToSearch, Byte[] byteArray) {
+    BasicDataOperationUsingQueue(byte byteValueToSearch, byte[] byteArray) {
+        this(byteValueToSearch, byteArray, new ByteIndex(byteArray));
+    }
+
+    /**
+     * Конструктор, який використовує спільний індекс byte, побудований координатором.
+     * 
+     * @param byteValueToSearch Значення для пошуку
+     * @param byteArray Масив byte
+     * @param byteIndex Гістограма значень масиву byte
+     */
+    BasicDataOperationUsingQueue(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex) {
         this.byteValueToSearch = byteValueToSearch;
         this.byteArray = byteArray;
-        this.dateTimeQueue = new PriorityQueue<>(Arrays.asList(byteArray));
+        this.dateTimeQueue = new ByteBucketQueue(byteArray);
+        this.byteIndex = byteIndex;
+    }
+
+    @Override
+    public String getName() {
+        return "Queue";
+    }
+
+    @Override
+    public String getTitle() {
+        return "🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE";
+    }
+
+    @Override
+    public void process(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex) {
+        new BasicDataOperationUsingQueue(byteValueToSearch, byteArray, byteIndex).runDataProcessing();
     }
     
     /**
@@ -47,87 +75,17 @@ public class BasicDataOperationUsingQueue {
         performQueueOperations();
 
         // потім працюємо з масивом
-        findInArray();
-        locateMinMaxInArray();
-
-        performArraySorting();
-
-        findInArray();
-        locateMinMaxInArray();
-
-        // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(byteArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        ByteArrayOperations.analyze(byteValueToSearch, byteArray, byteIndex);
     }
 
     /**
-     * Сортує масив об'єктiв byte та виводить початковий i вiдсортований масиви.
-     * Вимiрює та виводить час, витрачений на сортування масиву в наносекундах.
+     * Здійснює пошук конкретного значення в черзі чисел за таблицею лічильників.
      */
-    private void performArraySorting() {
-        // вимірюємо тривалість упорядкування масиву чисел
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(byteArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву чисел");
-    }
-
-    /**
-     * Здійснює пошук заданого типу даних.
-     */
-    private void findInArray() {
-        // відстежуємо час виконання пошуку в масиві
-        long timeStart = System.nanoTime();
-        
-        int position = Arrays.binarySearch(this.byteArray, byteValueToSearch);
-        
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi чисел");
-
-        if (position >= 0) {
-            System.out.println("Елемент '" + byteValueToSearch + "' знайдено в масивi за позицією: " + position);
-        } else {
-            System.out.println("Елемент '" + byteValueToSearch + "' відсутній в масиві.");
-        }
-    }
-
-    /**
-     * Визначає найменше та найбільше значення в масиві byte.
-     */
-    private void locateMinMaxInArray() {
-        if (byteArray == null || byteArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
-            return;
-        }
-
-        // відстежуємо час на визначення граничних значень
-        long timeStart = System.nanoTime();
-
-        byte minValue = byteArray[0];
-        byte maxValue = byteArray[0];
-
-        for (byte currentDateTime : byteArray) {
-            if (byteValueToSearch < minValue) {
-                minValue = currentDateTime;
-            }
-            if (byteValueToSearch > maxValue) {
-                maxValue = currentDateTime;
-            }
-        }
-
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа");
-
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
-    }
-
-    /**
-     * Здійснює пошук конкретного значення в черзі чисел.
-     */
-    private void findInQueue() {
+    void findInQueue() {
         // вимірюємо час пошуку в черзі
         long timeStart = System.nanoTime();
 
-        boolean elementExists = this.dateTimeQueue.contains(byteValueToSearch);
+        boolean elementExists = this.dateTimeQueue.containsByte(byteValueToSearch);
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в Queue чисел");
 
@@ -139,9 +97,9 @@ public class BasicDataOperationUsingQueue {
     }
 
     /**
-     * Визначає найменше та найбільше значення в черзі byte.
+     * Визначає найменше та найбільше значення в черзі byte за O(1).
      */
-    private void locateMinMaxInQueue() {
+    void locateMinMaxInQueue() {
         if (dateTimeQueue == null || dateTimeQueue.isEmpty()) {
             System.out.println("Черга є пустою або не ініціалізованою.");
             return;
@@ -150,8 +108,8 @@ public class BasicDataOperationUsingQueue {
         // відстежуємо час пошуку граничних значень
         long timeStart = System.nanoTime();
 
-        byte minValue = Collections.min(dateTimeQueue);
-        byte maxValue = Collections.max(dateTimeQueue);
+        byte minValue = dateTimeQueue.peekMin();
+        byte maxValue = dateTimeQueue.peekMax();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа в Queue");
 
@@ -162,19 +120,24 @@ public class BasicDataOperationUsingQueue {
     /**
      * Виконує операції peek і poll з чергою byte.
      */
-    private void performQueueOperations() {
+    void performQueueOperations() {
         if (dateTimeQueue == null || dateTimeQueue.isEmpty()) {
             System.out.println("Черга є пустою або не ініціалізованою.");
             return;
         }
 
-        byte headElement = dateTimeQueue.peek();
+        byte headElement = dateTimeQueue.peekMin();
         System.out.println("Головний елемент черги (peek): " + headElement);
 
-        headElement = dateTimeQueue.poll();
+        headElement = dateTimeQueue.pollMin();
         System.out.println("Видалений елемент черги (poll): " + headElement);
 
-        headElement = dateTimeQueue.peek();
+        if (dateTimeQueue.isEmpty()) {
+            System.out.println("Черга стала порожньою.");
+            return;
+        }
+
+        headElement = dateTimeQueue.peekMin();
         System.out.println("Новий головний елемент черги: " + headElement);
     }
 }
\ No newline at end of file
@@ -1,26 +1,27 @@
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.TreeSet;
-import java.util.Set;
 
 /**
- * Клас BasicDataOperationUsingSet реалізує операції з множиною TreeSet для byte.
+ * Клас BasicDataOperationUsingSet реалізує операції з бітовою множиною {@link ByteSet} для byte.
  * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataAnalysis()} - Запускає аналіз даних.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив byte.</li>
- *   <li>{@link #findInArray()} - Пошук значення в масиві byte.</li>
- *   <li>{@link #locateMinMaxInArray()} - Знаходить граничні значення в масиві.</li>
+ *   <li>{@link ByteArrayOperations#analyze(byte, byte[], ByteIndex)} - Пошук, упорядкування та граничні значення масиву byte.</li>
  *   <li>{@link #findInSet()} - Пошук значення в множині byte.</li>
  *   <li>{@link #locateMinMaxInSet()} - Знаходить мінімальне і максимальне значення в множині.</li>
  *   <li>{@link #analyzeArrayAndSet()} - Аналізує елементи масиву та множини.</li>
  * </ul>
  */
-public class BasicDataOperationUsingSet {
+public class BasicDataOperationUsingSet implements DataProcessor {
     byte byteValueToSearch;
-    Byte[] byteArray;
-    Set<Byte> dateTimeSet = new TreeSet<>();
+    byte[] byteArray;
+    ByteSet dateTimeSet = new ByteSet();
+    ByteIndex byteIndex;
+
+    /**
+     * Конструктор для {@link java.util.ServiceLoader}; дані передаються у {@link #process}.
+     */
+    public BasicDataOperationUsingSet() {
+    }
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -28,14 +29,41 @@ public class BasicDataOperationUsingSet {
      * @param byteValueToSearch Значення для пошуку
      * @param byteArray Масив byte
      */
-    BasicDataOperationUsingSet(byte byteValueToSearch, Byte[] byteArray) {
+    BasicDataOperationUsingSet(byte byteValueToSearch, byte[] byteArray) {
+        this(byteValueToSearch, byteArray, new ByteIndex(byteArray));
+    }
+
+    /**
+     * Конструктор, який використовує спільний індекс byte, побудований координатором.
+     * 
+     * @param byteValueToSearch Значення для пошуку
+     * @param byteArray Масив byte
+     * @param byteIndex Гістограма значень масиву byte
+     */
+    BasicDataOperationUsingSet(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex) {
         this.byteValueToSearch = byteValueToSearch;
         this.byteArray = byteArray;
-        this.dateTimeSet = new TreeSet<>(Arrays.asList(byteArray));
+        this.dateTimeSet = new ByteSet(byteArray);
+        this.byteIndex = byteIndex;
+    }
+
+    @Override
+    public String getName() {
+        return "Set";
+    }
+
+    @Override
+    public String getTitle() {
+        return "🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET";
+    }
+
+    @Override
+    public void process(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex) {
+        new BasicDataOperationUsingSet(byteValueToSearch, byteArray, byteIndex).executeDataAnalysis();
     }
     
     /**
-     * Запускає комплексний аналіз даних з використанням множини TreeSet.
+     * Запускає комплексний аналіз даних з використанням множини ByteSet.
      * 
      * Метод завантажує дані, виконує операції з множиною та масивом byte.
      */
@@ -46,132 +74,67 @@ public class BasicDataOperationUsingSet {
         analyzeArrayAndSet();
 
         // потім обробляємо масив
-        findInArray();
-        locateMinMaxInArray();
-
-        performArraySorting();
-
-        findInArray();
-        locateMinMaxInArray();
-
-        // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(byteArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
-    }
-
-    /**
-     * Упорядковує масив об'єктів byte за зростанням.
-     * Фіксує та виводить тривалість операції сортування в наносекундах.
-     */
-    private void performArraySorting() {
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(byteArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву чисел");
-    }
-
-    /**
-     * Здійснює пошук заданого типу даних.
-     */
-    private void findInArray() {
-        long timeStart = System.nanoTime();
-
-        int position = Arrays.binarySearch(this.byteArray, byteValueToSearch);
-
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi чисел");
-
-        if (position >= 0) {
-            System.out.println("Елемент '" + byteValueToSearch + "' знайдено в масивi за позицією: " + position);
-        } else {
-            System.out.println("Елемент '" + byteValueToSearch + "' відсутній в масиві.");
-        }
-    }
-
-    /**
-     * Визначає найменше та найбільше значення в масиві byte.
-     */
-    private void locateMinMaxInArray() {
-        if (byteArray == null || byteArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
-            return;
-        }
-
-        long timeStart = System.nanoTime();
-
-        byte minValue = byteArray[0];
-        byte maxValue = byteArray[0];
-
-        for (byte currentDateTime : byteArray) {
-            if (byteValueToSearch < minValue) {
-                minValue = currentDateTime;
-            }
-            if (byteValueToSearch > maxValue) {
-                maxValue = currentDateTime;
-            }
-        }
-
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа в масивi");
-
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        ByteArrayOperations.analyze(byteValueToSearch, byteArray, byteIndex);
     }
 
     /**
      * Здійснює пошук конкретного значення в множині чисел.
      */
-    private void findInSet() {
+    void findInSet() {
         long timeStart = System.nanoTime();
 
-        boolean elementExists = this.dateTimeSet.contains(byteValueToSearch);
+        boolean elementExists = QueryResultCache.lookup(
+                ByteArrayOperations.cacheKey(byteIndex, "containsByte", byteValueToSearch),
+                () -> dateTimeSet.containsByte(byteValueToSearch));
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в TreeSet чисел");
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в ByteSet чисел");
 
         if (elementExists) {
-            System.out.println("Елемент '" + byteValueToSearch + "' знайдено в TreeSet");
+            System.out.println("Елемент '" + byteValueToSearch + "' знайдено в ByteSet");
         } else {
-            System.out.println("Елемент '" + byteValueToSearch + "' відсутній в TreeSet.");
+            System.out.println("Елемент '" + byteValueToSearch + "' відсутній в ByteSet.");
         }
     }
 
     /**
      * Визначає найменше та найбільше значення в множині byte.
      */
-    private void locateMinMaxInSet() {
+    void locateMinMaxInSet() {
         if (dateTimeSet == null || dateTimeSet.isEmpty()) {
-            System.out.println("TreeSet є пустим або не ініціалізованим.");
+            System.out.println("ByteSet є пустим або не ініціалізованим.");
             return;
         }
 
         long timeStart = System.nanoTime();
 
-        byte minValue = Collections.min(dateTimeSet);
-        byte maxValue = Collections.max(dateTimeSet);
+        byte minValue = dateTimeSet.firstByte();
+        byte maxValue = dateTimeSet.lastByte();
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа в TreeSet");
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа в ByteSet");
 
-        System.out.println("Найменше значення в TreeSet: " + minValue);
-        System.out.println("Найбільше значення в TreeSet: " + maxValue);
+        System.out.println("Найменше значення в ByteSet: " + minValue);
+        System.out.println("Найбільше значення в ByteSet: " + maxValue);
     }
 
     /**
      * Аналізує та порівнює елементи масиву та множини.
+     * Різні значення масиву беруться з індексу {@link ByteIndex}, тому перевірка
+     * зводиться до порівняння чотирьох слів бітових масок.
      */
-    private void analyzeArrayAndSet() {
+    void analyzeArrayAndSet() {
         System.out.println("Кiлькiсть елементiв в масивi: " + byteArray.length);
-        System.out.println("Кiлькiсть елементiв в TreeSet: " + dateTimeSet.size());
-
-        boolean allElementsPresent = true;
-        for (byte dateTimeElement : byteArray) {
-            if (!dateTimeSet.contains(dateTimeElement)) {
-                allElementsPresent = false;
-                break;
-            }
-        }
+        System.out.println("Кiлькiсть елементiв в ByteSet: " + dateTimeSet.size());
+
+        long timeStart = System.nanoTime();
+
+        boolean allElementsPresent = dateTimeSet.containsAll(byteIndex.distinctValues());
+
+        PerformanceTracker.displayOperationTime(timeStart, "перевірка наявності елементів масиву в ByteSet");
 
         if (allElementsPresent) {
-            System.out.println("Всi елементи масиву наявні в TreeSet.");
+            System.out.println("Всi елементи масиву наявні в ByteSet.");
         } else {
-            System.out.println("Не всi елементи масиву наявні в TreeSet.");
+            System.out.println("Не всi елементи масиву наявні в ByteSet.");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Клас BatchQueryProcessor відповідає на багато запитів пошуку за один запуск.
+ * 
+ * <p>Файл даних завантажується та індексується один раз, після чого всі значення
+ * із файлу запитів (або стандартного вводу) перевіряються за таблицею {@link ByteIndex}
+ * за O(1) на запит. Результати записуються через один буферизований потік у форматі
+ * TSV: значення, ознака наявності, кількість входжень, позиція у впорядкованому масиві.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java BatchQueryProcessor queries.txt
+ * java BasicDataOperation --batch - --output results.tsv < queries.txt
+ * }
+ * </pre>
+ */
+public class BatchQueryProcessor {
+    private static final String USAGE_MESSAGE = "Використання: java BatchQueryProcessor <файл-запитів|-> [--output <файл>]\n" +
+"Приклад:\n" +
+"  java BatchQueryProcessor queries.txt\n" +
+"  java BatchQueryProcessor - --output results.tsv < queries.txt";
+
+    static final String STDIN_PATH = "-";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final ByteIndex byteIndex;
+
+    /**
+     * Конструктор, який використовує готовий індекс даних.
+     * 
+     * @param byteIndex Гістограма значень файлу даних
+     */
+    BatchQueryProcessor(ByteIndex byteIndex) {
+        this.byteIndex = byteIndex;
+    }
+
+    /**
+     * Завантажує значення запитів з файлу або стандартного вводу.
+     * 
+     * @param queriesPath Шлях до файлу запитів або "-" для стандартного вводу
+     * @return Масив значень для пошуку
+     * @throws IOException якщо читання не вдалося
+     */
+    static byte[] loadQueries(String queriesPath) throws IOException {
+        if (STDIN_PATH.equals(queriesPath)) {
+            return DataFileHandler.loadPrimitiveArrayFromChannel(Channels.newChannel(System.in), 0);
+        }
+        if (!Files.isRegularFile(Paths.get(queriesPath))) {
+            throw new IOException("Файл запитів не знайдено: " + queriesPath);
+        }
+        return DataFileHandler.loadPrimitiveArrayFromFile(queriesPath);
+    }
+
+    /**
+     * Відповідає на всі запити та записує результати.
+     * 
+     * @param queries Значення для пошуку
+     * @param writer Потік для запису результатів
+     * @return Кількість знайдених значень
+     * @throws IOException якщо запис не вдався
+     */
+    int answerQueries(byte[] queries, Writer writer) throws IOException {
+        int foundCount = 0;
+        StringBuilder line = new StringBuilder(32);
+
+        writer.write("value\tfound\tcount\tposition\n");
+        for (byte query : queries) {
+            int count = byteIndex.count(query);
+            boolean found = count > 0;
+            if (found) {
+                foundCount++;
+            }
+
+            line.setLength(0);
+            line.append(query).append('\t')
+                .append(found).append('\t')
+                .append(count).append('\t')
+                .append(found ? byteIndex.rank(query) : -1).append('\n');
+            writer.append(line);
+        }
+
+        return foundCount;
+    }
+
+    /**
+     * Виконує пакетну обробку: індексування даних, завантаження запитів і запис відповідей.
+     * Тривалість етапів виводиться у стандартний потік помилок, щоб не змішуватися з результатами.
+     * 
+     * @param dataPath Шлях до файлу даних
+     * @param queriesPath Шлях до файлу запитів або "-" для стандартного вводу
+     * @param outputPath Шлях до файлу результатів або null для стандартного виводу
+     */
+    static void run(String dataPath, String queriesPath, String outputPath) {
+        long timeStart = System.nanoTime();
+        ByteIndex byteIndex = SortedIndexCache.loadOrBuild(dataPath).getByteIndex();
+        long indexTime = System.nanoTime() - timeStart;
+        PerformanceTracker.recordOperationTime("пакетна побудова індексу byte", indexTime);
+
+        try {
+            timeStart = System.nanoTime();
+            byte[] queries = loadQueries(queriesPath);
+            long loadTime = System.nanoTime() - timeStart;
+            PerformanceTracker.recordOperationTime("завантаження пакету запитів", loadTime);
+
+            BatchQueryProcessor processor = new BatchQueryProcessor(byteIndex);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputPath == null
+                    ? System.out : Files.newOutputStream(Paths.get(outputPath)), StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+
+            timeStart = System.nanoTime();
+            int foundCount;
+            try {
+                foundCount = processor.answerQueries(queries, writer);
+            } finally {
+                if (outputPath == null) {
+                    writer.flush();
+                } else {
+                    writer.close();
+                }
+            }
+            long answerTime = System.nanoTime() - timeStart;
+            PerformanceTracker.recordOperationTime("пакетна відповідь на запити", answerTime);
+
+            System.err.println("Запитів: " + queries.length + ", знайдено: " + foundCount);
+            System.err.println("Побудова індексу: " + indexTime + " нс, завантаження запитів: " + loadTime
+                    + " нс, відповіді: " + answerTime + " нс");
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("❌ Помилка пакетної обробки: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Запускає пакетну обробку запитів: дані індексуються один раз для всіх значень.
+     * Той самий режим доступний як {@code java BasicDataOperation --batch ...}.
+     * 
+     * @param args Файл запитів (або "-") і необов'язковий параметр --output
+     */
+    public static void main(String[] args) {
+        String outputPath = null;
+        if (args.length == 3 && args[1].equals("--output")) {
+            outputPath = args[2];
+        } else if (args.length != 1) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        run(BasicDataOperation.PATH_TO_DATA_FILE, args[0], outputPath);
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Клас ByteArrayOperations містить спільні операції з масивом byte для обробників
+ * {@link BasicDataOperationUsingList}, {@link BasicDataOperationUsingQueue} та
+ * {@link BasicDataOperationUsingSet}.
+ * 
+ * <p>Усі операції спираються на гістограму {@link ByteIndex}, а результати запитів
+ * кешуються у {@link QueryResultCache} за відбитком вмісту індексу.</p>
+ * 
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #analyze(byte, byte[], ByteIndex)} - Виконує повний аналіз масиву.</li>
+ *   <li>{@link #sort(byte[], ByteIndex)} - Упорядковує масив byte.</li>
+ *   <li>{@link #find(byte, ByteIndex)} - Пошук значення в масиві byte.</li>
+ *   <li>{@link #locateMinMax(ByteIndex)} - Знаходить граничні значення в масиві.</li>
+ *   <li>{@link #saveSorted(byte[])} - Зберігає впорядкований масив до файлу.</li>
+ * </ul>
+ */
+final class ByteArrayOperations {
+
+    private ByteArrayOperations() {
+    }
+
+    /**
+     * Створює ключ кешу результатів для запиту до файлу даних.
+     * 
+     * @param byteIndex Гістограма значень масиву byte
+     * @param operation Назва операції
+     * @param argument Аргумент операції або null
+     * @return Ключ кешу результатів
+     */
+    static QueryResultCache.Key cacheKey(ByteIndex byteIndex, String operation, Object argument) {
+        return new QueryResultCache.Key(BasicDataOperation.PATH_TO_DATA_FILE, byteIndex.fingerprint(), operation, argument);
+    }
+
+    /**
+     * Виконує пошук і визначення граничних значень до та після упорядкування масиву,
+     * після чого зберігає впорядкований масив до файлу.
+     * 
+     * @param byteValueToSearch Значення для пошуку
+     * @param byteArray Масив byte
+     * @param byteIndex Гістограма значень масиву byte
+     */
+    static void analyze(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex) {
+        find(byteValueToSearch, byteIndex);
+        locateMinMax(byteIndex);
+
+        sort(byteArray, byteIndex);
+
+        find(byteValueToSearch, byteIndex);
+        locateMinMax(byteIndex);
+
+        saveSorted(byteArray);
+    }
+
+    /**
+     * Упорядковує масив byte за зростанням.
+     * Використовує сортування підрахунком за гістограмою {@link ByteIndex}.
+     * Фіксує та виводить тривалість операції сортування в наносекундах.
+     * 
+     * @param byteArray Масив byte
+     * @param byteIndex Гістограма значень масиву byte
+     */
+    static void sort(byte[] byteArray, ByteIndex byteIndex) {
+        long timeStart = System.nanoTime();
+
+        byteIndex.sortInto(byteArray);
+
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву чисел");
+    }
+
+    /**
+     * Здійснює пошук заданого значення.
+     * Виводить позицію першого входження значення у впорядкованому масиві.
+     * 
+     * @param byteValueToSearch Значення для пошуку
+     * @param byteIndex Гістограма значень масиву byte
+     */
+    static void find(byte byteValueToSearch, ByteIndex byteIndex) {
+        long timeStart = System.nanoTime();
+
+        int position = QueryResultCache.lookup(
+                cacheKey(byteIndex, "indexOf", byteValueToSearch),
+                () -> byteIndex.indexOf(byteValueToSearch));
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi чисел");
+
+        if (position >= 0) {
+            System.out.println("Елемент '" + byteValueToSearch + "' знайдено в масивi за позицією: " + position);
+        } else {
+            System.out.println("Елемент '" + byteValueToSearch + "' відсутній в масиві.");
+        }
+    }
+
+    /**
+     * Визначає найменше та найбільше значення в масиві byte.
+     * 
+     * @param byteIndex Гістограма значень масиву byte
+     */
+    static void locateMinMax(ByteIndex byteIndex) {
+        if (byteIndex == null || byteIndex.isEmpty()) {
+            System.out.println("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        long timeStart = System.nanoTime();
+
+        byte[] minMax = QueryResultCache.lookup(
+                cacheKey(byteIndex, "minMax", null),
+                () -> new byte[] {byteIndex.min(), byteIndex.max()});
+        byte minValue = minMax[0];
+        byte maxValue = minMax[1];
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального числа в масивi");
+
+        System.out.println("Найменше значення в масивi: " + minValue);
+        System.out.println("Найбільше значення в масивi: " + maxValue);
+    }
+
+    /**
+     * Зберігає впорядкований масив до файлу з суфіксом .sorted, якщо кеш індексу
+     * не підтверджує актуальність уже збереженого файлу.
+     * 
+     * @param byteArray Впорядкований масив byte
+     */
+    static void saveSorted(byte[] byteArray) {
+        if (!SortedIndexCache.isSortedFileCurrent(BasicDataOperation.PATH_TO_DATA_FILE)) {
+            DataFileHandler.writeArrayToFile(byteArray, BasicDataOperation.PATH_TO_DATA_FILE + SortedIndexCache.SORTED_SUFFIX);
+        }
+    }
+}
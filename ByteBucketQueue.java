@@ -0,0 +1,259 @@
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас ByteBucketQueue - пріоритетна черга значень byte на основі 256 кошиків.
+ * 
+ * <p>Кожному з 256 можливих значень відповідає лічильник входжень, тому додавання,
+ * перевірка наявності та підрахунок виконуються за O(1). Позиції найменшого і найбільшого
+ * непорожніх кошиків зберігаються, тож {@link #peekMin()} і {@link #peekMax()} працюють за O(1),
+ * а {@link #pollMin()} і {@link #pollMax()} - за амортизовані O(1) (не більше 256 кроків).</p>
+ * 
+ * <p>Як {@link java.util.Queue}&lt;Byte&gt; черга поводиться так само, як {@link java.util.PriorityQueue}
+ * з природним порядком: голова черги - найменше значення, а ітератор обходить значення за зростанням.</p>
+ */
+public class ByteBucketQueue extends AbstractQueue<Byte> {
+    private static final int VALUE_COUNT = 256;
+    private static final int OFFSET = 128;
+
+    private final int[] counts = new int[VALUE_COUNT];
+    private int size;
+    private int minIndex = VALUE_COUNT;
+    private int maxIndex = -1;
+    private int modCount;
+
+    /**
+     * Створює порожню чергу.
+     */
+    public ByteBucketQueue() {
+    }
+
+    /**
+     * Створює чергу з усіх значень примітивного масиву.
+     * 
+     * @param values Початкові значення
+     */
+    public ByteBucketQueue(byte[] values) {
+        for (byte value : values) {
+            offerByte(value);
+        }
+    }
+
+    /**
+     * Створює чергу зі значень колекції.
+     * 
+     * @param values Початкові значення
+     */
+    public ByteBucketQueue(Collection<? extends Byte> values) {
+        for (Byte value : values) {
+            offerByte(value);
+        }
+    }
+
+    /**
+     * Додає значення до черги без упаковки.
+     * 
+     * @param value Значення byte
+     */
+    public void offerByte(byte value) {
+        int index = value + OFFSET;
+        counts[index]++;
+        size++;
+        modCount++;
+        if (index < minIndex) {
+            minIndex = index;
+        }
+        if (index > maxIndex) {
+            maxIndex = index;
+        }
+    }
+
+    @Override
+    public boolean offer(Byte value) {
+        offerByte(value);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Перевіряє наявність значення у черзі за O(1).
+     * 
+     * @param value Значення для пошуку
+     * @return true, якщо значення є у черзі
+     */
+    public boolean containsByte(byte value) {
+        return counts[value + OFFSET] > 0;
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof Byte && containsByte((Byte) value);
+    }
+
+    /**
+     * Повертає кількість входжень значення у черзі.
+     * 
+     * @param value Значення byte
+     * @return Кількість входжень
+     */
+    public int count(byte value) {
+        return counts[value + OFFSET];
+    }
+
+    /**
+     * Повертає найменше значення без видалення.
+     * 
+     * @return Мінімальне значення
+     * @throws NoSuchElementException якщо черга порожня
+     */
+    public byte peekMin() {
+        checkNotEmpty();
+        return (byte) (minIndex - OFFSET);
+    }
+
+    /**
+     * Повертає найбільше значення без видалення.
+     * 
+     * @return Максимальне значення
+     * @throws NoSuchElementException якщо черга порожня
+     */
+    public byte peekMax() {
+        checkNotEmpty();
+        return (byte) (maxIndex - OFFSET);
+    }
+
+    /**
+     * Видаляє та повертає одне входження найменшого значення.
+     * 
+     * @return Мінімальне значення
+     * @throws NoSuchElementException якщо черга порожня
+     */
+    public byte pollMin() {
+        byte value = peekMin();
+        removeAt(minIndex);
+        return value;
+    }
+
+    /**
+     * Видаляє та повертає одне входження найбільшого значення.
+     * 
+     * @return Максимальне значення
+     * @throws NoSuchElementException якщо черга порожня
+     */
+    public byte pollMax() {
+        byte value = peekMax();
+        removeAt(maxIndex);
+        return value;
+    }
+
+    @Override
+    public Byte peek() {
+        return size == 0 ? null : peekMin();
+    }
+
+    @Override
+    public Byte poll() {
+        return size == 0 ? null : pollMin();
+    }
+
+    @Override
+    public boolean remove(Object value) {
+        if (!contains(value)) {
+            return false;
+        }
+        removeAt((Byte) value + OFFSET);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = minIndex; i <= maxIndex; i++) {
+            counts[i] = 0;
+        }
+        size = 0;
+        minIndex = VALUE_COUNT;
+        maxIndex = -1;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<Byte> iterator() {
+        return new Iterator<Byte>() {
+            private int expectedModCount = modCount;
+            private int index = minIndex;
+            private int remainingInBucket = index < VALUE_COUNT ? counts[index] : 0;
+            private int lastReturnedIndex = -1;
+
+            @Override
+            public boolean hasNext() {
+                return remainingInBucket > 0;
+            }
+
+            @Override
+            public Byte next() {
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (remainingInBucket == 0) {
+                    throw new NoSuchElementException();
+                }
+                lastReturnedIndex = index;
+                byte value = (byte) (index - OFFSET);
+                if (--remainingInBucket == 0) {
+                    do {
+                        index++;
+                    } while (index <= maxIndex && counts[index] == 0);
+                    remainingInBucket = index <= maxIndex ? counts[index] : 0;
+                }
+                return value;
+            }
+
+            /**
+             * Видаляє останнє повернуте входження, зменшуючи лічильник його кошика.
+             * Кошики попереду обходу не змінюються, тож обхід продовжується з того ж місця.
+             */
+            @Override
+            public void remove() {
+                if (lastReturnedIndex < 0) {
+                    throw new IllegalStateException();
+                }
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                removeAt(lastReturnedIndex);
+                lastReturnedIndex = -1;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Черга порожня");
+        }
+    }
+
+    private void removeAt(int index) {
+        counts[index]--;
+        size--;
+        modCount++;
+        if (size == 0) {
+            minIndex = VALUE_COUNT;
+            maxIndex = -1;
+            return;
+        }
+        while (counts[minIndex] == 0) {
+            minIndex++;
+        }
+        while (counts[maxIndex] == 0) {
+            maxIndex--;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас ByteIndex зберігає гістограму значень byte для швидкого аналізу даних.
+ * 
+ * <p>Оскільки byte має лише 256 можливих значень, індекс будується за один
+ * прохід по масиву і надалі відповідає на запити без повторного сортування.</p>
+ * 
+ * <p>Основні можливості:</p>
+ * <ul>
+ *   <li>{@link #sortInto(Byte[])} - Упорядкування масиву підрахунком за O(n).</li>
+ *   <li>{@link #contains(byte)} - Перевірка наявності значення за O(1).</li>
+ *   <li>{@link #count(byte)} - Кількість входжень значення за O(1).</li>
+ *   <li>{@link #rank(byte)} - Кількість елементів, менших за значення, за O(1).</li>
+ *   <li>{@link #countInRange(int, int)} - Кількість елементів у діапазоні за O(1).</li>
+ *   <li>{@link #kthSmallest(int)} - k-те найменше значення за O(log 256).</li>
+ *   <li>{@link #indexOf(byte)} - Позиція значення у впорядкованому масиві.</li>
+ *   <li>{@link #min()} та {@link #max()} - Граничні значення за O(1).</li>
+ *   <li>{@link #fingerprint()} - Відбиток вмісту для ключів кешу результатів.</li>
+ * </ul>
+ */
+public class ByteIndex {
+    private static final int VALUE_RANGE = 256;
+    private static final int OFFSET = -Byte.MIN_VALUE;
+
+    private final int[] counts = new int[VALUE_RANGE];
+    private final int[] prefixCounts = new int[VALUE_RANGE + 1];
+    private final int size;
+    private final byte minValue;
+    private final byte maxValue;
+    private long fingerprint;
+
+    /**
+     * Будує індекс з примітивного масиву byte.
+     * 
+     * @param byteArray Масив byte
+     */
+    public ByteIndex(byte[] byteArray) {
+        for (byte element : byteArray) {
+            counts[element + OFFSET]++;
+        }
+        this.size = byteArray.length;
+        this.minValue = findFirstPresent();
+        this.maxValue = findLastPresent();
+        buildPrefixCounts();
+    }
+
+    /**
+     * Будує індекс з масиву об'єктів byte.
+     * 
+     * @param byteArray Масив об'єктів byte
+     */
+    public ByteIndex(Byte[] byteArray) {
+        for (Byte element : byteArray) {
+            counts[element + OFFSET]++;
+        }
+        this.size = byteArray.length;
+        this.minValue = findFirstPresent();
+        this.maxValue = findLastPresent();
+        buildPrefixCounts();
+    }
+
+    /**
+     * Відновлює індекс з готової гістограми, наприклад завантаженої з кешу.
+     * 
+     * @param valueCounts Кількість входжень кожного значення, починаючи з {@link Byte#MIN_VALUE}
+     * @throws IllegalArgumentException якщо гістограма має не 256 елементів або від'ємні лічильники
+     */
+    public ByteIndex(int[] valueCounts) {
+        if (valueCounts.length != VALUE_RANGE) {
+            throw new IllegalArgumentException("Гістограма має містити " + VALUE_RANGE + " значень");
+        }
+        long total = 0;
+        for (int i = 0; i < VALUE_RANGE; i++) {
+            if (valueCounts[i] < 0) {
+                throw new IllegalArgumentException("Від'ємний лічильник для значення " + (i - OFFSET));
+            }
+            counts[i] = valueCounts[i];
+            total += valueCounts[i];
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Забагато елементів для індексу");
+        }
+        this.size = (int) total;
+        this.minValue = findFirstPresent();
+        this.maxValue = findLastPresent();
+        buildPrefixCounts();
+    }
+
+    private byte findFirstPresent() {
+        for (int i = 0; i < VALUE_RANGE; i++) {
+            if (counts[i] > 0) {
+                return (byte) (i - OFFSET);
+            }
+        }
+        return 0;
+    }
+
+    private byte findLastPresent() {
+        for (int i = VALUE_RANGE - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                return (byte) (i - OFFSET);
+            }
+        }
+        return 0;
+    }
+
+    private void buildPrefixCounts() {
+        // FNV-1a по лічильниках: однакові дані дають однаковий відбиток незалежно від порядку
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < VALUE_RANGE; i++) {
+            prefixCounts[i + 1] = prefixCounts[i] + counts[i];
+            hash = (hash ^ counts[i]) * 0x100000001B3L;
+        }
+        this.fingerprint = hash;
+    }
+
+    /**
+     * Повертає відбиток гістограми. Результати всіх запитів до індексу залежать лише
+     * від гістограми, тож відбиток слугує версією даних у ключах {@link QueryResultCache}.
+     * 
+     * @return 64-бітний відбиток лічильників значень
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Повертає кількість проіндексованих елементів.
+     * 
+     * @return Кількість елементів
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Перевіряє, чи індекс не містить жодного елемента.
+     * 
+     * @return true, якщо індекс порожній
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Перевіряє наявність значення.
+     * 
+     * @param value Значення для пошуку
+     * @return true, якщо значення присутнє хоча б один раз
+     */
+    public boolean contains(byte value) {
+        return counts[value + OFFSET] > 0;
+    }
+
+    /**
+     * Повертає кількість входжень значення.
+     * 
+     * @param value Значення для підрахунку
+     * @return Кількість входжень
+     */
+    public int count(byte value) {
+        return counts[value + OFFSET];
+    }
+
+    /**
+     * Повертає кількість елементів, строго менших за задане значення.
+     * 
+     * @param value Значення для порівняння
+     * @return Ранг значення
+     */
+    public int rank(byte value) {
+        return prefixCounts[value + OFFSET];
+    }
+
+    /**
+     * Повертає кількість елементів, строго менших за задане значення.
+     * Межа може виходити за діапазон byte.
+     * 
+     * @param value Верхня межа (не включно)
+     * @return Кількість елементів
+     */
+    public int countBelow(int value) {
+        return prefixCounts[clampBound(value) + OFFSET];
+    }
+
+    /**
+     * Повертає кількість елементів у діапазоні [fromInclusive, toExclusive) за O(1).
+     * Межі можуть виходити за діапазон byte.
+     * 
+     * @param fromInclusive Нижня межа (включно)
+     * @param toExclusive Верхня межа (не включно)
+     * @return Кількість елементів у діапазоні
+     */
+    public int countInRange(int fromInclusive, int toExclusive) {
+        int from = clampBound(fromInclusive);
+        int to = clampBound(toExclusive);
+        return to <= from ? 0 : prefixCounts[to + OFFSET] - prefixCounts[from + OFFSET];
+    }
+
+    private static int clampBound(int value) {
+        return Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE + 1, value));
+    }
+
+    /**
+     * Повертає k-те найменше значення (з нуля) бінарним пошуком за префіксними сумами.
+     * 
+     * @param k Позиція у впорядкованому масиві
+     * @return Значення на цій позиції
+     * @throws IndexOutOfBoundsException якщо k поза межами [0, size)
+     */
+    public byte kthSmallest(int k) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException("Позиція " + k + " поза межами [0, " + size + ")");
+        }
+        // шукаємо найбільше значення, перед яким менше ніж k + 1 елементів
+        int low = 0;
+        int high = VALUE_RANGE - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (prefixCounts[middle] <= k) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return (byte) (low - OFFSET);
+    }
+
+    /**
+     * Повертає позицію першого входження значення у впорядкованому масиві.
+     * Результат узгоджений з {@link Arrays#binarySearch(Object[], Object)}:
+     * якщо значення відсутнє, повертається {@code -(точка вставки) - 1}.
+     * 
+     * @param value Значення для пошуку
+     * @return Позиція значення або від'ємна точка вставки
+     */
+    public int indexOf(byte value) {
+        int position = rank(value);
+        return contains(value) ? position : -position - 1;
+    }
+
+    /**
+     * Повертає найменше значення.
+     * 
+     * @return Мінімальне значення
+     * @throws NoSuchElementException якщо індекс порожній
+     */
+    public byte min() {
+        if (size == 0) {
+            throw new NoSuchElementException("Індекс порожній");
+        }
+        return minValue;
+    }
+
+    /**
+     * Повертає найбільше значення.
+     * 
+     * @return Максимальне значення
+     * @throws NoSuchElementException якщо індекс порожній
+     */
+    public byte max() {
+        if (size == 0) {
+            throw new NoSuchElementException("Індекс порожній");
+        }
+        return maxValue;
+    }
+
+    /**
+     * Повертає множину різних значень, присутніх в індексі.
+     * 
+     * @return Нова множина {@link ByteSet}
+     */
+    public ByteSet distinctValues() {
+        ByteSet distinct = new ByteSet();
+        for (int i = 0; i < VALUE_RANGE; i++) {
+            if (counts[i] > 0) {
+                distinct.addByte((byte) (i - OFFSET));
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Записує елементи у масив у порядку зростання (сортування підрахунком).
+     * 
+     * @param byteArray Масив, довжина якого дорівнює {@link #size()}
+     */
+    public void sortInto(Byte[] byteArray) {
+        for (int i = 0; i < VALUE_RANGE; i++) {
+            Arrays.fill(byteArray, prefixCounts[i], prefixCounts[i + 1], Byte.valueOf((byte) (i - OFFSET)));
+        }
+    }
+
+    /**
+     * Записує елементи у примітивний масив у порядку зростання.
+     * 
+     * @param byteArray Масив, довжина якого дорівнює {@link #size()}
+     */
+    public void sortInto(byte[] byteArray) {
+        for (int i = 0; i < VALUE_RANGE; i++) {
+            Arrays.fill(byteArray, prefixCounts[i], prefixCounts[i + 1], (byte) (i - OFFSET));
+        }
+    }
+}
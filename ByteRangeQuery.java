@@ -0,0 +1,206 @@
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.NavigableSet;
+
+/**
+ * Клас ByteRangeQuery відповідає на запити діапазону та рангу над впорядкованими даними byte.
+ * 
+ * <p>Кількості рахуються за префіксними сумами {@link ByteIndex} за O(1), k-те найменше
+ * значення - за O(log 256). Значення діапазону повертаються як подання (slice) буфера
+ * відсортованих значень без копіювання: для кешу {@link SortedIndexCache} це ділянка
+ * відображеного в пам'ять файлу.</p>
+ * 
+ * <p>Усі діапазони напіввідкриті: {@code [fromInclusive, toExclusive)}. Межі задаються як int
+ * і можуть виходити за діапазон byte, наприклад {@code [100, 128)} охоплює значення до 127.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java ByteRangeQuery range -10 10
+ * java BasicDataOperation --query kth 0
+ * java BasicDataOperation --query below 0
+ * }
+ * </pre>
+ */
+public class ByteRangeQuery {
+    private static final String USAGE_MESSAGE = "Використання: java ByteRangeQuery range <від> <до> | kth <k> | below <значення>\n" +
+"Приклад:\n" +
+"  java ByteRangeQuery range -10 10";
+
+    private final ByteIndex byteIndex;
+    private final ByteBuffer sortedValues;
+
+    /**
+     * Конструктор запитів над індексом і відсортованими значеннями того ж набору даних.
+     * 
+     * @param byteIndex Гістограма значень
+     * @param sortedValues Значення за зростанням (від позиції 0 до capacity)
+     * @throws IllegalArgumentException якщо кількість значень не збігається з розміром індексу
+     */
+    public ByteRangeQuery(ByteIndex byteIndex, ByteBuffer sortedValues) {
+        if (sortedValues.capacity() != byteIndex.size()) {
+            throw new IllegalArgumentException("Кількість відсортованих значень не збігається з розміром індексу");
+        }
+        this.byteIndex = byteIndex;
+        this.sortedValues = sortedValues.asReadOnlyBuffer();
+    }
+
+    /**
+     * Повертає кількість значень у діапазоні за O(1).
+     * 
+     * @param fromInclusive Нижня межа (включно)
+     * @param toExclusive Верхня межа (не включно)
+     * @return Кількість значень
+     */
+    public int count(int fromInclusive, int toExclusive) {
+        return byteIndex.countInRange(fromInclusive, toExclusive);
+    }
+
+    /**
+     * Повертає кількість значень, строго менших за задане.
+     * 
+     * @param value Верхня межа (не включно)
+     * @return Кількість значень
+     */
+    public int countBelow(int value) {
+        return byteIndex.countBelow(value);
+    }
+
+    /**
+     * Повертає позицію першого значення діапазону у впорядкованих даних.
+     * 
+     * @param fromInclusive Нижня межа (включно)
+     * @return Позиція в буфері відсортованих значень
+     */
+    public int startOf(int fromInclusive) {
+        return byteIndex.countBelow(fromInclusive);
+    }
+
+    /**
+     * Повертає значення діапазону за зростанням без копіювання.
+     * 
+     * @param fromInclusive Нижня межа (включно)
+     * @param toExclusive Верхня межа (не включно)
+     * @return Подання лише для читання з позицією 0 і довжиною, що дорівнює кількості значень
+     */
+    public ByteBuffer range(int fromInclusive, int toExclusive) {
+        return sortedValues.slice(startOf(fromInclusive), count(fromInclusive, toExclusive));
+    }
+
+    /**
+     * Повертає всі значення, строго менші за задане, без копіювання.
+     * 
+     * @param value Верхня межа (не включно)
+     * @return Подання лише для читання
+     */
+    public ByteBuffer below(int value) {
+        return sortedValues.slice(0, countBelow(value));
+    }
+
+    /**
+     * Повертає k-те найменше значення (з нуля).
+     * 
+     * @param k Позиція у впорядкованих даних
+     * @return Значення на цій позиції
+     * @throws IndexOutOfBoundsException якщо k поза межами даних
+     */
+    public byte kthSmallest(int k) {
+        return byteIndex.kthSmallest(k);
+    }
+
+    /**
+     * Повертає різні значення діапазону як навігаційну множину, аналогічно {@code TreeSet.subSet}.
+     * 
+     * @param fromInclusive Нижня межа (включно)
+     * @param toExclusive Верхня межа (не включно)
+     * @return Подання множини різних значень діапазону
+     */
+    public NavigableSet<Byte> distinctValues(int fromInclusive, int toExclusive) {
+        int from = Math.max(Byte.MIN_VALUE, fromInclusive);
+        if (from > Byte.MAX_VALUE || from >= toExclusive) {
+            return Collections.emptyNavigableSet();
+        }
+        ByteSet distinct = byteIndex.distinctValues();
+        return toExclusive > Byte.MAX_VALUE
+                ? distinct.tailSet((byte) from, true)
+                : distinct.subSet((byte) from, true, (byte) toExclusive, false);
+    }
+
+    /**
+     * Відповідає на запит діапазону або рангу за кешованим індексом файлу даних:
+     * кількість і значення в [від, до), k-те найменше значення або значення, менші за задане.
+     * Той самий режим доступний як {@code java BasicDataOperation --query ...}.
+     * 
+     * @param args Тип запиту (range, kth або below) та його параметри
+     */
+    public static void main(String[] args) {
+        String queryType;
+        int[] operands;
+        try {
+            if (args.length < 2) {
+                throw new IllegalArgumentException("Відсутній тип запиту або його параметри");
+            }
+            queryType = args[0];
+            int expectedOperands = queryType.equals("range") ? 2 : 1;
+            if (!queryType.equals("range") && !queryType.equals("kth") && !queryType.equals("below")) {
+                throw new IllegalArgumentException("Невідомий тип запиту " + queryType);
+            }
+            if (args.length != 1 + expectedOperands) {
+                throw new IllegalArgumentException("Запит " + queryType + " потребує параметрів: " + expectedOperands);
+            }
+            operands = new int[expectedOperands];
+            for (int i = 0; i < expectedOperands; i++) {
+                operands[i] = Integer.parseInt(args[1 + i]);
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        ByteRangeQuery rangeQuery = SortedIndexCache.loadOrBuild(BasicDataOperation.PATH_TO_DATA_FILE).rangeQuery();
+        long timeStart = System.nanoTime();
+        switch (queryType) {
+            case "range": {
+                int count = rangeQuery.count(operands[0], operands[1]);
+                int start = rangeQuery.startOf(operands[0]);
+                ByteBuffer values = rangeQuery.range(operands[0], operands[1]);
+                PerformanceTracker.displayOperationTime(timeStart, "запит діапазону byte");
+                System.out.println("Значень у [" + operands[0] + ", " + operands[1] + "): " + count
+                        + ", позиції у впорядкованому масиві: [" + start + ", " + (start + count) + ")");
+                System.out.println("Різні значення: " + rangeQuery.distinctValues(operands[0], operands[1]));
+                printValues(values);
+                break;
+            }
+            case "kth": {
+                try {
+                    byte value = rangeQuery.kthSmallest(operands[0]);
+                    PerformanceTracker.displayOperationTime(timeStart, "пошук k-го найменшого byte");
+                    System.out.println("Значення на позиції " + operands[0] + ": " + value);
+                } catch (IndexOutOfBoundsException e) {
+                    System.out.println("Помилка: " + e.getMessage());
+                }
+                break;
+            }
+            default: {
+                ByteBuffer values = rangeQuery.below(operands[0]);
+                PerformanceTracker.displayOperationTime(timeStart, "запит значень byte менших за межу");
+                System.out.println("Значень менших за " + operands[0] + ": " + values.remaining());
+                printValues(values);
+                break;
+            }
+        }
+    }
+
+    private static void printValues(ByteBuffer values) {
+        StringBuilder line = new StringBuilder("Значення:");
+        int shown = Math.min(values.remaining(), BasicDataOperation.QUERY_PRINT_LIMIT);
+        for (int i = 0; i < shown; i++) {
+            line.append(' ').append(values.get(i));
+        }
+        if (values.remaining() > shown) {
+            line.append(" ... ще ").append(values.remaining() - shown);
+        }
+        System.out.println(line);
+    }
+}
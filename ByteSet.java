@@ -0,0 +1,607 @@
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас ByteSet - множина значень byte у вигляді 256-бітової маски з чотирьох long.
+ * 
+ * <p>Перевірка наявності, додавання і видалення виконуються за O(1), мінімум і максимум
+ * визначаються через {@link Long#numberOfTrailingZeros(long)} та {@link Long#numberOfLeadingZeros(long)}.
+ * Групові операції з іншою ByteSet ({@link #containsAll(Collection)}, {@link #addAll(Collection)},
+ * {@link #retainAll(Collection)}, {@link #union(ByteSet)}, {@link #intersect(ByteSet)})
+ * виконуються над чотирма словами замість поелементних перевірок.</p>
+ * 
+ * <p>Підмножини {@link #subSet}, {@link #headSet}, {@link #tailSet} і {@link #descendingSet()}
+ * є поданнями, що спільно використовують маску з вихідною множиною.</p>
+ */
+public class ByteSet extends AbstractSet<Byte> implements NavigableSet<Byte> {
+    private static final int VALUE_COUNT = 256;
+    private static final int OFFSET = 128;
+    private static final int WORD_COUNT = 4;
+
+    private final long[] words;
+    private final int fromIndex;
+    private final int toIndex;
+
+    /**
+     * Створює порожню множину.
+     */
+    public ByteSet() {
+        this(new long[WORD_COUNT], 0, VALUE_COUNT);
+    }
+
+    /**
+     * Створює множину з усіх значень примітивного масиву.
+     * 
+     * @param values Початкові значення
+     */
+    public ByteSet(byte[] values) {
+        this();
+        for (byte value : values) {
+            addByte(value);
+        }
+    }
+
+    /**
+     * Створює множину зі значень колекції.
+     * 
+     * @param values Початкові значення
+     */
+    public ByteSet(Collection<Byte> values) {
+        this();
+        for (Byte value : values) {
+            addByte(value);
+        }
+    }
+
+    private ByteSet(long[] words, int fromIndex, int toIndex) {
+        this.words = words;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    /**
+     * Повертає маску бітів слова, що належать діапазону цієї множини.
+     */
+    private long rangeMask(int word) {
+        int low = Math.max(fromIndex - (word << 6), 0);
+        int high = Math.min(toIndex - (word << 6), 64);
+        if (low >= high) {
+            return 0L;
+        }
+        long highMask = high == 64 ? -1L : (1L << high) - 1;
+        return highMask & (-1L << low);
+    }
+
+    private long maskedWord(int word) {
+        return words[word] & rangeMask(word);
+    }
+
+    private boolean inRange(int index) {
+        return index >= fromIndex && index < toIndex;
+    }
+
+    private int nextSetBit(int index) {
+        if (index < fromIndex) {
+            index = fromIndex;
+        }
+        if (index >= toIndex) {
+            return -1;
+        }
+        int word = index >>> 6;
+        long bits = maskedWord(word) & (-1L << index);
+        while (bits == 0) {
+            if (++word == WORD_COUNT) {
+                return -1;
+            }
+            bits = maskedWord(word);
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    private int previousSetBit(int index) {
+        if (index >= toIndex) {
+            index = toIndex - 1;
+        }
+        if (index < fromIndex) {
+            return -1;
+        }
+        int word = index >>> 6;
+        long bits = maskedWord(word) & (-1L >>> (63 - (index & 63)));
+        while (bits == 0) {
+            if (--word < 0) {
+                return -1;
+            }
+            bits = maskedWord(word);
+        }
+        return (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+    }
+
+    private void clearBit(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    private static Byte toValue(int index) {
+        return index < 0 ? null : Byte.valueOf((byte) (index - OFFSET));
+    }
+
+    /**
+     * Додає значення без упаковки.
+     * 
+     * @param value Значення byte
+     * @return true, якщо значення було відсутнє
+     * @throws IllegalArgumentException якщо значення поза межами підмножини
+     */
+    public boolean addByte(byte value) {
+        int index = value + OFFSET;
+        if (!inRange(index)) {
+            throw new IllegalArgumentException("Значення поза межами підмножини: " + value);
+        }
+        long bit = 1L << index;
+        boolean added = (words[index >>> 6] & bit) == 0;
+        words[index >>> 6] |= bit;
+        return added;
+    }
+
+    /**
+     * Перевіряє наявність значення за O(1).
+     * 
+     * @param value Значення для пошуку
+     * @return true, якщо значення є у множині
+     */
+    public boolean containsByte(byte value) {
+        int index = value + OFFSET;
+        return inRange(index) && (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Видаляє значення без упаковки.
+     * 
+     * @param value Значення byte
+     * @return true, якщо значення було у множині
+     */
+    public boolean removeByte(byte value) {
+        if (!containsByte(value)) {
+            return false;
+        }
+        clearBit(value + OFFSET);
+        return true;
+    }
+
+    /**
+     * Повертає найменше значення.
+     * 
+     * @return Мінімальне значення
+     * @throws NoSuchElementException якщо множина порожня
+     */
+    public byte firstByte() {
+        int index = nextSetBit(fromIndex);
+        if (index < 0) {
+            throw new NoSuchElementException("Множина порожня");
+        }
+        return (byte) (index - OFFSET);
+    }
+
+    /**
+     * Повертає найбільше значення.
+     * 
+     * @return Максимальне значення
+     * @throws NoSuchElementException якщо множина порожня
+     */
+    public byte lastByte() {
+        int index = previousSetBit(toIndex - 1);
+        if (index < 0) {
+            throw new NoSuchElementException("Множина порожня");
+        }
+        return (byte) (index - OFFSET);
+    }
+
+    /**
+     * Повертає нову множину, що містить значення обох множин.
+     * 
+     * @param other Інша множина
+     * @return Об'єднання множин
+     */
+    public ByteSet union(ByteSet other) {
+        ByteSet result = new ByteSet();
+        for (int word = 0; word < WORD_COUNT; word++) {
+            result.words[word] = maskedWord(word) | other.maskedWord(word);
+        }
+        return result;
+    }
+
+    /**
+     * Повертає нову множину зі спільними значеннями обох множин.
+     * 
+     * @param other Інша множина
+     * @return Перетин множин
+     */
+    public ByteSet intersect(ByteSet other) {
+        ByteSet result = new ByteSet();
+        for (int word = 0; word < WORD_COUNT; word++) {
+            result.words[word] = maskedWord(word) & other.maskedWord(word);
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (int word = 0; word < WORD_COUNT; word++) {
+            size += Long.bitCount(maskedWord(word));
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nextSetBit(fromIndex) < 0;
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof Byte && containsByte((Byte) value);
+    }
+
+    @Override
+    public boolean add(Byte value) {
+        return addByte(value);
+    }
+
+    @Override
+    public boolean remove(Object value) {
+        return value instanceof Byte && removeByte((Byte) value);
+    }
+
+    @Override
+    public void clear() {
+        for (int word = 0; word < WORD_COUNT; word++) {
+            words[word] &= ~rangeMask(word);
+        }
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> values) {
+        if (!(values instanceof ByteSet)) {
+            return super.containsAll(values);
+        }
+        ByteSet other = (ByteSet) values;
+        for (int word = 0; word < WORD_COUNT; word++) {
+            if ((other.maskedWord(word) & ~maskedWord(word)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Byte> values) {
+        if (!(values instanceof ByteSet)) {
+            return super.addAll(values);
+        }
+        ByteSet other = (ByteSet) values;
+        for (int word = 0; word < WORD_COUNT; word++) {
+            if ((other.maskedWord(word) & ~rangeMask(word)) != 0) {
+                throw new IllegalArgumentException("Значення поза межами підмножини");
+            }
+        }
+        boolean changed = false;
+        for (int word = 0; word < WORD_COUNT; word++) {
+            long bits = other.maskedWord(word);
+            changed |= (bits & ~words[word]) != 0;
+            words[word] |= bits;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> values) {
+        if (!(values instanceof ByteSet)) {
+            return super.retainAll(values);
+        }
+        ByteSet other = (ByteSet) values;
+        boolean changed = false;
+        for (int word = 0; word < WORD_COUNT; word++) {
+            long kept = words[word] & (other.maskedWord(word) | ~rangeMask(word));
+            changed |= kept != words[word];
+            words[word] = kept;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> values) {
+        if (!(values instanceof ByteSet)) {
+            return super.removeAll(values);
+        }
+        ByteSet other = (ByteSet) values;
+        boolean changed = false;
+        for (int word = 0; word < WORD_COUNT; word++) {
+            long kept = words[word] & ~(other.maskedWord(word) & rangeMask(word));
+            changed |= kept != words[word];
+            words[word] = kept;
+        }
+        return changed;
+    }
+
+    @Override
+    public Comparator<? super Byte> comparator() {
+        return null;
+    }
+
+    @Override
+    public Byte first() {
+        return firstByte();
+    }
+
+    @Override
+    public Byte last() {
+        return lastByte();
+    }
+
+    @Override
+    public Byte lower(Byte value) {
+        return toValue(previousSetBit(value + OFFSET - 1));
+    }
+
+    @Override
+    public Byte floor(Byte value) {
+        return toValue(previousSetBit(value + OFFSET));
+    }
+
+    @Override
+    public Byte ceiling(Byte value) {
+        return toValue(nextSetBit(value + OFFSET));
+    }
+
+    @Override
+    public Byte higher(Byte value) {
+        return toValue(nextSetBit(value + OFFSET + 1));
+    }
+
+    @Override
+    public Byte pollFirst() {
+        int index = nextSetBit(fromIndex);
+        if (index >= 0) {
+            clearBit(index);
+        }
+        return toValue(index);
+    }
+
+    @Override
+    public Byte pollLast() {
+        int index = previousSetBit(toIndex - 1);
+        if (index >= 0) {
+            clearBit(index);
+        }
+        return toValue(index);
+    }
+
+    @Override
+    public Iterator<Byte> iterator() {
+        return new BitIterator(false);
+    }
+
+    @Override
+    public Iterator<Byte> descendingIterator() {
+        return new BitIterator(true);
+    }
+
+    @Override
+    public NavigableSet<Byte> descendingSet() {
+        return new DescendingByteSet(this);
+    }
+
+    @Override
+    public NavigableSet<Byte> subSet(Byte fromElement, boolean fromInclusive, Byte toElement, boolean toInclusive) {
+        if (fromElement > toElement) {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return view(fromElement + OFFSET + (fromInclusive ? 0 : 1), toElement + OFFSET + (toInclusive ? 1 : 0));
+    }
+
+    @Override
+    public NavigableSet<Byte> headSet(Byte toElement, boolean inclusive) {
+        return view(fromIndex, toElement + OFFSET + (inclusive ? 1 : 0));
+    }
+
+    @Override
+    public NavigableSet<Byte> tailSet(Byte fromElement, boolean inclusive) {
+        return view(fromElement + OFFSET + (inclusive ? 0 : 1), toIndex);
+    }
+
+    @Override
+    public NavigableSet<Byte> subSet(Byte fromElement, Byte toElement) {
+        return subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public NavigableSet<Byte> headSet(Byte toElement) {
+        return headSet(toElement, false);
+    }
+
+    @Override
+    public NavigableSet<Byte> tailSet(Byte fromElement) {
+        return tailSet(fromElement, true);
+    }
+
+    private ByteSet view(int low, int high) {
+        if (low < fromIndex || high > toIndex) {
+            throw new IllegalArgumentException("Межі поза діапазоном підмножини");
+        }
+        return new ByteSet(words, low, Math.max(low, high));
+    }
+
+    /**
+     * Ітератор по встановлених бітах у прямому або зворотному порядку.
+     */
+    private final class BitIterator implements Iterator<Byte> {
+        private final boolean descending;
+        private int nextIndex;
+        private int lastIndex = -1;
+
+        BitIterator(boolean descending) {
+            this.descending = descending;
+            this.nextIndex = descending ? previousSetBit(toIndex - 1) : nextSetBit(fromIndex);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex >= 0;
+        }
+
+        @Override
+        public Byte next() {
+            if (nextIndex < 0) {
+                throw new NoSuchElementException();
+            }
+            lastIndex = nextIndex;
+            nextIndex = descending ? previousSetBit(nextIndex - 1) : nextSetBit(nextIndex + 1);
+            return toValue(lastIndex);
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            clearBit(lastIndex);
+            lastIndex = -1;
+        }
+    }
+
+    /**
+     * Подання множини у зворотному порядку; всі операції делегуються вихідній множині.
+     */
+    private static final class DescendingByteSet extends AbstractSet<Byte> implements NavigableSet<Byte> {
+        private final ByteSet ascending;
+
+        DescendingByteSet(ByteSet ascending) {
+            this.ascending = ascending;
+        }
+
+        @Override
+        public int size() {
+            return ascending.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return ascending.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object value) {
+            return ascending.contains(value);
+        }
+
+        @Override
+        public boolean add(Byte value) {
+            return ascending.add(value);
+        }
+
+        @Override
+        public boolean remove(Object value) {
+            return ascending.remove(value);
+        }
+
+        @Override
+        public void clear() {
+            ascending.clear();
+        }
+
+        @Override
+        public Comparator<? super Byte> comparator() {
+            return Collections.reverseOrder();
+        }
+
+        @Override
+        public Byte first() {
+            return ascending.last();
+        }
+
+        @Override
+        public Byte last() {
+            return ascending.first();
+        }
+
+        @Override
+        public Byte lower(Byte value) {
+            return ascending.higher(value);
+        }
+
+        @Override
+        public Byte floor(Byte value) {
+            return ascending.ceiling(value);
+        }
+
+        @Override
+        public Byte ceiling(Byte value) {
+            return ascending.floor(value);
+        }
+
+        @Override
+        public Byte higher(Byte value) {
+            return ascending.lower(value);
+        }
+
+        @Override
+        public Byte pollFirst() {
+            return ascending.pollLast();
+        }
+
+        @Override
+        public Byte pollLast() {
+            return ascending.pollFirst();
+        }
+
+        @Override
+        public Iterator<Byte> iterator() {
+            return ascending.descendingIterator();
+        }
+
+        @Override
+        public Iterator<Byte> descendingIterator() {
+            return ascending.iterator();
+        }
+
+        @Override
+        public NavigableSet<Byte> descendingSet() {
+            return ascending;
+        }
+
+        @Override
+        public NavigableSet<Byte> subSet(Byte fromElement, boolean fromInclusive, Byte toElement, boolean toInclusive) {
+            return ascending.subSet(toElement, toInclusive, fromElement, fromInclusive).descendingSet();
+        }
+
+        @Override
+        public NavigableSet<Byte> headSet(Byte toElement, boolean inclusive) {
+            return ascending.tailSet(toElement, inclusive).descendingSet();
+        }
+
+        @Override
+        public NavigableSet<Byte> tailSet(Byte fromElement, boolean inclusive) {
+            return ascending.headSet(fromElement, inclusive).descendingSet();
+        }
+
+        @Override
+        public NavigableSet<Byte> subSet(Byte fromElement, Byte toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        @Override
+        public NavigableSet<Byte> headSet(Byte toElement) {
+            return headSet(toElement, false);
+        }
+
+        @Override
+        public NavigableSet<Byte> tailSet(Byte fromElement) {
+            return tailSet(fromElement, true);
+        }
+    }
+}
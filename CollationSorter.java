@@ -0,0 +1,320 @@
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Клас CollationSorter впорядковує рядки та символи за правилами мови (за замовчуванням uk-UA),
+ * а не за кодовими точками, як {@code String.compareTo}.
+ * 
+ * <p>Замість виклику {@link Collator#compare} на кожне порівняння ключ упорядкування
+ * ({@link CollationKey}) обчислюється один раз для кожного елемента і перетворюється
+ * на масив байтів. Далі номери значень сортуються порозрядним сортуванням MSD за байтами
+ * ключів, тож порівняння зводяться до порівняння байтів. Сортування стабільне: рівні за
+ * правилами мови значення зберігають порядок даних, як у {@link Arrays#sort(Object[], java.util.Comparator)}.</p>
+ * 
+ * <p>Для символів використовується таблиця частот на всі 65536 значень char: частоти
+ * рахуються за O(n), а впорядкування виводиться з таблиці без порівняння елементів.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java CollationSorter --input list/String.data
+ * java BasicDataOperation --collate --input list/Character.data --locale uk-UA
+ * }
+ * </pre>
+ */
+public final class CollationSorter {
+    private static final Locale DEFAULT_LOCALE = Locale.forLanguageTag("uk-UA");
+    private static final String USAGE_MESSAGE = "Використання: java CollationSorter [--input <файл String|Character>] [--locale <мова>]\n" +
+"Приклад:\n" +
+"  java CollationSorter --input list/Character.data --locale uk-UA";
+
+    static final int CHAR_TABLE_SIZE = Character.MAX_VALUE + 1;
+
+    // для малих діапазонів сортування вставками швидше за підрахунок 257 кошиків
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    // кошик 0 - кінець ключа, кошики 1..256 - значення байта
+    private static final int RADIX = 257;
+
+    private final Collator collator;
+
+    public CollationSorter(Locale locale) {
+        this.collator = Collator.getInstance(locale);
+    }
+
+    public Collator getCollator() {
+        return collator;
+    }
+
+    /**
+     * Обчислює ключ упорядкування значення як масив байтів.
+     * 
+     * @param value Значення
+     * @return Байти ключа, що порівнюються як беззнакові
+     */
+    public byte[] sortKey(String value) {
+        return collator.getCollationKey(value).toByteArray();
+    }
+
+    /**
+     * Повертає номери рядків у порядку за правилами мови.
+     * 
+     * @param values Рядки
+     * @param size Кількість рядків
+     * @return Перестановка номерів рядків
+     */
+    public int[] sortOrder(String[] values, int size) {
+        byte[][] keys = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            keys[i] = sortKey(values[i]);
+        }
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        radixSort(keys, order, new int[size], 0, size, 0);
+        return order;
+    }
+
+    /**
+     * Повертає впорядковану за правилами мови копію рядків.
+     * 
+     * @param values Рядки
+     * @param size Кількість рядків
+     * @return Новий масив впорядкованих рядків
+     */
+    public String[] sort(String[] values, int size) {
+        int[] order = sortOrder(values, size);
+        String[] sorted = new String[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = values[order[i]];
+        }
+        return sorted;
+    }
+
+    private static void radixSort(byte[][] keys, int[] order, int[] buffer, int from, int to, int depth) {
+        if (to - from < INSERTION_SORT_THRESHOLD) {
+            insertionSort(keys, order, from, to, depth);
+            return;
+        }
+
+        int[] bucketStarts = new int[RADIX + 1];
+        for (int i = from; i < to; i++) {
+            bucketStarts[bucket(keys[order[i]], depth) + 1]++;
+        }
+        for (int b = 0; b < RADIX; b++) {
+            bucketStarts[b + 1] += bucketStarts[b];
+        }
+        int[] positions = Arrays.copyOf(bucketStarts, RADIX);
+        for (int i = from; i < to; i++) {
+            buffer[positions[bucket(keys[order[i]], depth)]++] = order[i];
+        }
+        System.arraycopy(buffer, 0, order, from, to - from);
+
+        // у кошику 0 ключі вже вичерпано, тобто вони рівні
+        for (int b = 1; b < RADIX; b++) {
+            int bucketFrom = from + bucketStarts[b];
+            int bucketTo = from + bucketStarts[b + 1];
+            if (bucketTo - bucketFrom > 1) {
+                radixSort(keys, order, buffer, bucketFrom, bucketTo, depth + 1);
+            }
+        }
+    }
+
+    private static int bucket(byte[] key, int depth) {
+        return depth < key.length ? (key[depth] & 0xFF) + 1 : 0;
+    }
+
+    private static void insertionSort(byte[][] keys, int[] order, int from, int to, int depth) {
+        for (int i = from + 1; i < to; i++) {
+            int current = order[i];
+            byte[] key = keys[current];
+            int j = i - 1;
+            while (j >= from && compareFrom(keys[order[j]], key, depth) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    private static int compareFrom(byte[] left, byte[] right, int depth) {
+        return Arrays.compareUnsigned(left, Math.min(depth, left.length), left.length,
+                right, Math.min(depth, right.length), right.length);
+    }
+
+    /**
+     * Рахує частоти символів у таблиці на 65536 значень за O(n).
+     * 
+     * @param values Символи
+     * @param size Кількість символів
+     * @return Таблиця частот, індексована значенням char
+     */
+    public static int[] charFrequencies(char[] values, int size) {
+        int[] frequencies = new int[CHAR_TABLE_SIZE];
+        for (int i = 0; i < size; i++) {
+            frequencies[values[i]]++;
+        }
+        return frequencies;
+    }
+
+    /**
+     * Повертає символи, що зустрічаються в таблиці, у порядку за правилами мови. Ключі
+     * обчислюються лише для різних символів, тож час не залежить від кількості елементів.
+     * 
+     * @param frequencies Таблиця частот
+     * @return Різні символи за правилами мови
+     */
+    public char[] collatedAlphabet(int[] frequencies) {
+        int distinct = 0;
+        for (int symbol = 0; symbol < CHAR_TABLE_SIZE; symbol++) {
+            if (frequencies[symbol] != 0) {
+                distinct++;
+            }
+        }
+        String[] symbols = new String[distinct];
+        int index = 0;
+        for (int symbol = 0; symbol < CHAR_TABLE_SIZE; symbol++) {
+            if (frequencies[symbol] != 0) {
+                symbols[index++] = String.valueOf((char) symbol);
+            }
+        }
+        // символи вже за кодовими точками, тож рівні за правилами мови лишаються в цьому порядку
+        int[] order = sortOrder(symbols, distinct);
+        char[] alphabet = new char[distinct];
+        for (int i = 0; i < distinct; i++) {
+            alphabet[i] = symbols[order[i]].charAt(0);
+        }
+        return alphabet;
+    }
+
+    /**
+     * Впорядковує символи за правилами мови підрахунком: O(n + 65536) плюс обчислення
+     * ключів для різних символів.
+     * 
+     * @param values Символи
+     * @param size Кількість символів
+     * @return Новий масив впорядкованих символів
+     */
+    public char[] sort(char[] values, int size) {
+        int[] frequencies = charFrequencies(values, size);
+        char[] sorted = new char[size];
+        int position = 0;
+        for (char symbol : collatedAlphabet(frequencies)) {
+            Arrays.fill(sorted, position, position + frequencies[symbol], symbol);
+            position += frequencies[symbol];
+        }
+        return sorted;
+    }
+
+    /**
+     * Впорядковує символи за кодовими точками підрахунком за O(n + 65536).
+     * 
+     * @param values Символи
+     * @param size Кількість символів
+     * @return Новий масив впорядкованих символів
+     */
+    public static char[] countingSort(char[] values, int size) {
+        int[] frequencies = charFrequencies(values, size);
+        char[] sorted = new char[size];
+        int position = 0;
+        for (int symbol = 0; symbol < CHAR_TABLE_SIZE; symbol++) {
+            int count = frequencies[symbol];
+            if (count != 0) {
+                Arrays.fill(sorted, position, position + count, (char) symbol);
+                position += count;
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Впорядковує рядки або символи за правилами мови: рядки - за попередньо обчисленими
+     * ключами упорядкування, символи - за таблицею частот. Для порівняння виконується
+     * сортування з викликом Collator.compare на кожне порівняння. Той самий режим доступний
+     * як {@code java BasicDataOperation --collate ...}.
+     * 
+     * @param args Необов'язкові параметри --input та --locale
+     */
+    public static void main(String[] args) {
+        String inputPath = BasicDataOperation.PATH_TO_STRING_FILE;
+        Locale locale = DEFAULT_LOCALE;
+        TypedDataPipeline.DataType type;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--input": inputPath = BasicDataOperation.optionValue(args, i++); break;
+                    case "--locale": locale = Locale.forLanguageTag(BasicDataOperation.optionValue(args, i++)); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+            type = TypedDataPipeline.DataType.fromFileName(inputPath);
+            if (type != TypedDataPipeline.DataType.STRING && type != TypedDataPipeline.DataType.CHARACTER) {
+                throw new IllegalArgumentException("Сортування за мовою підтримує лише файли String та Character");
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        CollationSorter sorter = new CollationSorter(locale);
+        long timeStart = System.nanoTime();
+        TypedDataPipeline.Column column = TypedDataPipeline.loadColumn(inputPath, type);
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження даних " + type.typeName);
+        if (column.size() == 0) {
+            System.out.println("Файл не містить даних.");
+            return;
+        }
+
+        StringBuilder line = new StringBuilder("Впорядковано (" + locale.toLanguageTag() + "):");
+        int shown = Math.min(column.size(), BasicDataOperation.QUERY_PRINT_LIMIT);
+        if (type == TypedDataPipeline.DataType.CHARACTER) {
+            char[] values = ((TypedDataPipeline.CharColumn) column).values;
+
+            timeStart = System.nanoTime();
+            Character[] boxed = new Character[column.size()];
+            for (int i = 0; i < boxed.length; i++) {
+                boxed[i] = values[i];
+            }
+            Arrays.sort(boxed, (left, right) -> sorter.getCollator().compare(left.toString(), right.toString()));
+            PerformanceTracker.displayOperationTime(timeStart, "сортування Character з Collator.compare");
+
+            timeStart = System.nanoTime();
+            int[] frequencies = charFrequencies(values, column.size());
+            PerformanceTracker.displayOperationTime(timeStart, "таблиця частот Character");
+            timeStart = System.nanoTime();
+            char[] sorted = sorter.sort(values, column.size());
+            PerformanceTracker.displayOperationTime(timeStart, "сортування Character підрахунком за мовою");
+
+            StringBuilder frequencyLine = new StringBuilder("Частоти:");
+            for (char symbol : sorter.collatedAlphabet(frequencies)) {
+                frequencyLine.append(' ').append(symbol).append('=').append(frequencies[symbol]);
+            }
+            System.out.println(frequencyLine);
+            for (int i = 0; i < shown; i++) {
+                line.append(' ').append(sorted[i]);
+            }
+        } else {
+            String[] values = ((TypedDataPipeline.StringColumn) column).values;
+
+            timeStart = System.nanoTime();
+            String[] baseline = Arrays.copyOf(values, column.size());
+            Arrays.sort(baseline, sorter.getCollator());
+            PerformanceTracker.displayOperationTime(timeStart, "сортування String з Collator.compare");
+
+            timeStart = System.nanoTime();
+            String[] sorted = sorter.sort(values, column.size());
+            PerformanceTracker.displayOperationTime(timeStart, "сортування String за ключами упорядкування");
+
+            for (int i = 0; i < shown; i++) {
+                line.append(i == 0 ? " " : " | ").append(sorted[i]);
+            }
+        }
+        if (column.size() > shown) {
+            line.append(" ... ще ").append(column.size() - shown);
+        }
+        System.out.println(line);
+    }
+}
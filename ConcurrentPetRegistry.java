@@ -0,0 +1,179 @@
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Клас ConcurrentPetRegistry - потокобезпечний варіант {@link PetRegistry}.
+ * 
+ * <p>Основні записи та індекс власник -> тварини зберігаються у {@link ConcurrentHashMap}:
+ * читання ({@link #get}, {@link #containsKey}, {@link #findPetsByOwner}) не блокуються,
+ * а зміни блокують лише один кошик таблиці замість глобального монітора Hashtable.
+ * Індекс оновлюється всередині {@link ConcurrentHashMap#compute} основної таблиці,
+ * тож запис і його індекс змінюються атомарно відносно інших змін того ж ключа.</p>
+ * 
+ * <p>{@link #version()} - версія вмісту, як у {@link PetRegistry}. Нова версія видається вже
+ * після того, як зміна стала видимою, тож потік, що прочитав нову версію, бачить і зміну;
+ * результат, обчислений під час зміни, може потрапити лише під стару версію, яку більше
+ * ніхто не запитує.</p>
+ * 
+ * <p>Значення (ім'я власника) не може бути null.</p>
+ */
+public class ConcurrentPetRegistry extends AbstractMap<BasicDataOperationUsingMap.Pet, String> {
+    private final ConcurrentHashMap<BasicDataOperationUsingMap.Pet, String> pets = new ConcurrentHashMap<>();
+    private final Map<BasicDataOperationUsingMap.Pet, String> readOnlyPets = Collections.unmodifiableMap(pets);
+    private final ConcurrentHashMap<String, Set<BasicDataOperationUsingMap.Pet>> petsByOwner = new ConcurrentHashMap<>();
+    private volatile long version = PetRegistry.nextVersion();
+
+    /**
+     * Створює порожній реєстр.
+     */
+    public ConcurrentPetRegistry() {
+    }
+
+    /**
+     * Створює реєстр з копією записів наявної Map.
+     * 
+     * @param pets Початкові записи (ключ: Pet, значення: ім'я власника)
+     */
+    public ConcurrentPetRegistry(Map<BasicDataOperationUsingMap.Pet, String> pets) {
+        putAll(pets);
+    }
+
+    private void index(BasicDataOperationUsingMap.Pet pet, String owner) {
+        petsByOwner.compute(owner, (key, ownerPets) -> {
+            Set<BasicDataOperationUsingMap.Pet> result = ownerPets != null ? ownerPets : ConcurrentHashMap.newKeySet();
+            result.add(pet);
+            return result;
+        });
+    }
+
+    private void unindex(BasicDataOperationUsingMap.Pet pet, String owner) {
+        petsByOwner.computeIfPresent(owner, (key, ownerPets) -> {
+            ownerPets.remove(pet);
+            return ownerPets.isEmpty() ? null : ownerPets;
+        });
+    }
+
+    @Override
+    public String put(BasicDataOperationUsingMap.Pet pet, String owner) {
+        Objects.requireNonNull(owner, "owner");
+        String[] previousOwner = new String[1];
+        pets.compute(pet, (key, currentOwner) -> {
+            if (currentOwner != null) {
+                unindex(key, currentOwner);
+            }
+            index(key, owner);
+            previousOwner[0] = currentOwner;
+            return owner;
+        });
+        version = PetRegistry.nextVersion();
+        return previousOwner[0];
+    }
+
+    @Override
+    public String remove(Object pet) {
+        if (!(pet instanceof BasicDataOperationUsingMap.Pet)) {
+            return null;
+        }
+        String[] removedOwner = new String[1];
+        pets.computeIfPresent((BasicDataOperationUsingMap.Pet) pet, (key, currentOwner) -> {
+            unindex(key, currentOwner);
+            removedOwner[0] = currentOwner;
+            return null;
+        });
+        if (removedOwner[0] != null) {
+            version = PetRegistry.nextVersion();
+        }
+        return removedOwner[0];
+    }
+
+    @Override
+    public String get(Object pet) {
+        return pets.get(pet);
+    }
+
+    @Override
+    public boolean containsKey(Object pet) {
+        return pets.containsKey(pet);
+    }
+
+    /**
+     * Перевіряє наявність власника за індексом за O(1).
+     */
+    @Override
+    public boolean containsValue(Object owner) {
+        return petsByOwner.containsKey(owner);
+    }
+
+    @Override
+    public int size() {
+        return pets.size();
+    }
+
+    @Override
+    public void clear() {
+        for (BasicDataOperationUsingMap.Pet pet : pets.keySet()) {
+            remove(pet);
+        }
+    }
+
+    /**
+     * Повертає поточну версію вмісту реєстру.
+     * 
+     * @return Версія, що змінюється після кожної зміни записів
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Повертає незмінне слабко-узгоджене подання записів; зміни виконуються лише через реєстр.
+     */
+    @Override
+    public Set<Map.Entry<BasicDataOperationUsingMap.Pet, String>> entrySet() {
+        return readOnlyPets.entrySet();
+    }
+
+    /**
+     * Повертає тварин заданого власника.
+     * 
+     * @param owner Ім'я власника
+     * @return Незмінне подання множини тварин (порожнє, якщо власника немає)
+     */
+    public Set<BasicDataOperationUsingMap.Pet> findPetsByOwner(String owner) {
+        Set<BasicDataOperationUsingMap.Pet> ownerPets = petsByOwner.get(owner);
+        return ownerPets == null ? Collections.emptySet() : Collections.unmodifiableSet(ownerPets);
+    }
+
+    /**
+     * Видаляє всіх тварин заданого власника. Запис видаляється, лише якщо на момент
+     * видалення він досі належить цьому власнику.
+     * 
+     * @param owner Ім'я власника
+     * @return Множина видалених тварин (порожня, якщо власника немає)
+     */
+    public Set<BasicDataOperationUsingMap.Pet> removeByOwner(String owner) {
+        Set<BasicDataOperationUsingMap.Pet> ownerPets = petsByOwner.get(owner);
+        if (ownerPets == null) {
+            return Collections.emptySet();
+        }
+        Set<BasicDataOperationUsingMap.Pet> removedPets = ConcurrentHashMap.newKeySet();
+        for (BasicDataOperationUsingMap.Pet pet : ownerPets) {
+            pets.computeIfPresent(pet, (key, currentOwner) -> {
+                if (!currentOwner.equals(owner)) {
+                    return currentOwner;
+                }
+                unindex(key, currentOwner);
+                removedPets.add(key);
+                return null;
+            });
+        }
+        if (!removedPets.isEmpty()) {
+            version = PetRegistry.nextVersion();
+        }
+        return removedPets;
+    }
+}
@@ -1,13 +1,27 @@
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Клас DataFileHandler управляє роботою з файлами даних byte.
  */
 public class DataFileHandler {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
     /**
      * Завантажує масив об'єктів byte з файлу.
      * 
@@ -15,43 +29,282 @@ public class DataFileHandler {
      * @return Масив об'єктів byte.
      */
     public static Byte[] loadArrayFromFile(String filePath) {
-        Byte[] temporaryArray = new Byte[1000];
+        byte[] primitiveArray = loadPrimitiveArrayFromFile(filePath);
+
+        Byte[] resultArray = new Byte[primitiveArray.length];
+        for (int i = 0; i < primitiveArray.length; i++) {
+            resultArray[i] = primitiveArray[i];
+        }
+
+        return resultArray;
+    }
+
+    /**
+     * Завантажує примітивний масив byte з файлу без створення рядка на кожен запис.
+     * 
+     * <p>Файл читається блоками через {@link FileChannel}, числа розбираються
+     * безпосередньо з байтів. BOM відкидається лише один раз на початку файлу.
+     * Розмір результату обмежений лише кількістю значень у файлі.</p>
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив byte з усіма значеннями файлу.
+     * @throws NumberFormatException якщо рядок не є коректним значенням byte.
+     */
+    public static byte[] loadPrimitiveArrayFromFile(String filePath) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            return loadPrimitiveArrayFromChannel(channel, channel.size());
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Завантажує примітивний масив byte з довільного каналу, наприклад стандартного вводу.
+     * 
+     * @param channel Канал з текстовими даними, по одному значенню в рядку.
+     * @param sizeHint Очікуваний обсяг даних у байтах або 0, якщо він невідомий.
+     * @return Масив byte з усіма значеннями каналу.
+     * @throws IOException якщо читання з каналу не вдалося.
+     * @throws NumberFormatException якщо рядок не є коректним значенням byte.
+     */
+    public static byte[] loadPrimitiveArrayFromChannel(ReadableByteChannel channel, long sizeHint) throws IOException {
+        byte[] resultArray = new byte[INITIAL_CAPACITY];
         int currentIndex = 0;
 
-        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath))) {
-            String currentLine;
-            while ((currentLine = fileReader.readLine()) != null) {
-                // Видаляємо можливі невидимі символи та BOM
-                currentLine = currentLine.trim().replaceAll("^\\uFEFF", "");
-                if (!currentLine.isEmpty()) {
-                    byte parsedDateTime = Byte.parseByte(currentLine);
-                    temporaryArray[currentIndex++] = parsedDateTime;
+        // кожне значення займає щонайменше два байти: цифру та роздільник
+        if (sizeHint / 2 + 1 > INITIAL_CAPACITY) {
+            resultArray = new byte[(int) Math.min(sizeHint / 2 + 1, Integer.MAX_VALUE - 8)];
+        }
+
+        ValueReader reader = new ValueReader(channel);
+        int readCount;
+        while ((readCount = reader.read(resultArray, currentIndex, resultArray.length - currentIndex)) != -1) {
+            currentIndex += readCount;
+            if (currentIndex == resultArray.length) {
+                resultArray = Arrays.copyOf(resultArray, resultArray.length + Math.max(1, resultArray.length >> 1));
+            }
+        }
+
+        return currentIndex == resultArray.length ? resultArray : Arrays.copyOf(resultArray, currentIndex);
+    }
+
+    /**
+     * Потоковий розбирач текстових значень byte, по одному значенню в рядку.
+     * 
+     * <p>Значення видаються порціями заданого розміру, тому обсяг пам'яті не залежить
+     * від розміру файлу. BOM відкидається лише один раз на початку даних.
+     * Розбирач не закриває переданий канал.</p>
+     */
+    static final class ValueReader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private boolean firstBlock = true;
+        private boolean endOfInput;
+        private boolean negative;
+        private boolean hasDigits;
+        private int value;
+        private long lineNumber = 1;
+
+        /**
+         * Конструктор розбирача.
+         * 
+         * @param channel Канал з текстовими даними
+         */
+        ValueReader(ReadableByteChannel channel) {
+            this.channel = channel;
+            buffer.flip();
+        }
+
+        /**
+         * Читає наступні значення до масиву.
+         * 
+         * @param destination Масив для значень
+         * @param offset Позиція першого значення в масиві
+         * @param length Максимальна кількість значень
+         * @return Кількість прочитаних значень або -1, якщо дані закінчилися
+         * @throws IOException якщо читання з каналу не вдалося.
+         * @throws NumberFormatException якщо рядок не є коректним значенням byte.
+         */
+        int read(byte[] destination, int offset, int length) throws IOException {
+            int count = 0;
+            while (count < length) {
+                if (!buffer.hasRemaining()) {
+                    if (endOfInput || !fillBuffer()) {
+                        // останній рядок може не завершуватися символом нового рядка
+                        if (hasDigits) {
+                            destination[offset + count++] = toByte(value, negative, lineNumber);
+                            hasDigits = false;
+                            negative = false;
+                            value = 0;
+                        }
+                        break;
+                    }
+                    continue;
+                }
+
+                byte symbol = buffer.get();
+                if (symbol >= '0' && symbol <= '9') {
+                    value = value * 10 + (symbol - '0');
+                    hasDigits = true;
+                    if (value > 128) {
+                        throw new NumberFormatException("Значення поза межами byte у рядку " + lineNumber);
+                    }
+                } else if (symbol == '-' && !hasDigits && !negative) {
+                    negative = true;
+                } else if (symbol == '+' && !hasDigits && !negative) {
+                    // знак плюс не змінює значення
+                } else if (symbol == '\n' || symbol == '\r' || symbol == ' ' || symbol == '\t') {
+                    if (hasDigits) {
+                        destination[offset + count++] = toByte(value, negative, lineNumber);
+                    } else if (negative) {
+                        throw new NumberFormatException("Відсутні цифри у рядку " + lineNumber);
+                    }
+                    if (symbol == '\n') {
+                        lineNumber++;
+                    }
+                    negative = false;
+                    hasDigits = false;
+                    value = 0;
+                } else {
+                    throw new NumberFormatException("Недопустимий символ у рядку " + lineNumber);
                 }
             }
-        } catch (IOException ioException) {
-            ioException.printStackTrace();
+            return count == 0 && endOfInput ? -1 : count;
         }
 
-        Byte[] resultArray = new Byte[currentIndex];
-        System.arraycopy(temporaryArray, 0, resultArray, 0, currentIndex);
+        /**
+         * Читає наступний блок з каналу.
+         * 
+         * @return false, якщо дані закінчилися
+         */
+        private boolean fillBuffer() throws IOException {
+            buffer.clear();
+            int readBytes = channel.read(buffer);
+            buffer.flip();
+            if (readBytes == -1) {
+                endOfInput = true;
+                return false;
+            }
 
-        return resultArray;
+            // Видаляємо BOM лише один раз, на початку файлу
+            if (firstBlock && readBytes > 0) {
+                firstBlock = false;
+                if (buffer.remaining() >= 3
+                        && (buffer.get(0) & 0xFF) == 0xEF
+                        && (buffer.get(1) & 0xFF) == 0xBB
+                        && (buffer.get(2) & 0xFF) == 0xBF) {
+                    buffer.position(3);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Перетворює розібране абсолютне значення зі знаком на byte з перевіркою меж.
+     */
+    private static byte toByte(int value, boolean negative, long lineNumber) {
+        int signedValue = negative ? -value : value;
+        if (signedValue < Byte.MIN_VALUE || signedValue > Byte.MAX_VALUE) {
+            throw new NumberFormatException("Значення поза межами byte у рядку " + lineNumber);
+        }
+        return (byte) signedValue;
     }
 
     /**
      * Зберігає масив об'єктів byte у файл.
      * 
+     * <p>Дані спершу записуються у тимчасовий файл у тому ж каталозі, який потім
+     * атомарно замінює цільовий. Тому одночасні записи з кількох потоків не
+     * перемежовуються, а читачі ніколи не бачать частково записаний файл.</p>
+     * 
      * @param byteArray Масив об'єктів byte.
      * @param filePath Шлях до файлу для збереження.
      */
     public static void writeArrayToFile(Byte[] byteArray, String filePath) {
-        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
+        writeLinesAtomically(filePath, fileWriter -> {
             for (Byte dateTimeElement : byteArray) {
-                 fileWriter.write(dateTimeElement.toString());
+                fileWriter.write(dateTimeElement.toString());
+                fileWriter.newLine();
+            }
+        });
+    }
+
+    /**
+     * Зберігає примітивний масив byte у файл у тому ж форматі та так само атомарно,
+     * як і {@link #writeArrayToFile(Byte[], String)}.
+     * 
+     * @param byteArray Масив byte.
+     * @param filePath Шлях до файлу для збереження.
+     */
+    public static void writeArrayToFile(byte[] byteArray, String filePath) {
+        writeLinesAtomically(filePath, fileWriter -> {
+            for (byte element : byteArray) {
+                fileWriter.write(Byte.toString(element));
                 fileWriter.newLine();
             }
+        });
+    }
+
+    @FunctionalInterface
+    private interface LinesWriter {
+        void write(BufferedWriter fileWriter) throws IOException;
+    }
+
+    /**
+     * Запис вмісту файлу до потоку виводу.
+     */
+    @FunctionalInterface
+    interface OutputWriter {
+        void write(OutputStream output) throws IOException;
+    }
+
+    private static void writeLinesAtomically(String filePath, LinesWriter linesWriter) {
+        try {
+            writeAtomically(Paths.get(filePath), output -> {
+                BufferedWriter fileWriter = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+                linesWriter.write(fileWriter);
+                fileWriter.flush();
+            });
         } catch (IOException ioException) {
             ioException.printStackTrace();
         }
     }
+
+    /**
+     * Записує файл у тимчасовий файл у тому ж каталозі та атомарно замінює ним цільовий.
+     * 
+     * <p>Тимчасовий файл створюється як звичайний новий файл, тобто з правами за
+     * замовчуванням з урахуванням umask, а не з правами лише для власника, як у
+     * {@link Files#createTempFile}. Тому замінений файл має ті ж права, що й файл,
+     * записаний напряму. Якщо запис не вдався, тимчасовий файл видаляється.</p>
+     * 
+     * @param targetPath Шлях до цільового файлу
+     * @param writer Запис вмісту; потік закривається після повернення
+     * @throws IOException якщо запис або заміна файлу не вдалися
+     */
+    static void writeAtomically(Path targetPath, OutputWriter writer) throws IOException {
+        Path absolutePath = targetPath.toAbsolutePath();
+        Path temporaryPath;
+        OutputStream output;
+        while (true) {
+            temporaryPath = absolutePath.resolveSibling(absolutePath.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                output = Files.newOutputStream(temporaryPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                break;
+            } catch (FileAlreadyExistsException existsException) {
+                // ім'я вже зайняте іншим записом, пробуємо інше
+            }
+        }
+        try {
+            try (OutputStream temporaryOutput = output) {
+                writer.write(temporaryOutput);
+            }
+            Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
 }
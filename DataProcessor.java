@@ -0,0 +1,32 @@
+/**
+ * Інтерфейс DataProcessor описує обробник даних, який координатор
+ * {@link BasicDataOperation} знаходить через {@link java.util.ServiceLoader}.
+ * 
+ * <p>Реалізації реєструються у файлі {@code META-INF/services/DataProcessor} і повинні
+ * мати публічний конструктор без параметрів. Новий обробник (наприклад, з примітивними
+ * або позакучевими структурами) додається без змін у координаторі.</p>
+ */
+public interface DataProcessor {
+    /**
+     * Повертає назву обробника, за якою його обирають у командному рядку.
+     * 
+     * @return Назва обробника (наприклад, List)
+     */
+    String getName();
+
+    /**
+     * Повертає заголовок, що виводиться перед початком обробки.
+     * 
+     * @return Заголовок обробки
+     */
+    String getTitle();
+
+    /**
+     * Виконує комплекс операцій обробника над переданими даними.
+     * 
+     * @param byteValueToSearch Значення для пошуку
+     * @param byteArray Масив byte, який обробник може змінювати
+     * @param byteIndex Гістограма значень масиву byte
+     */
+    void process(byte byteValueToSearch, byte[] byteArray, ByteIndex byteIndex);
+}
@@ -0,0 +1,403 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Клас ExternalByteSorter сортує файли даних byte, більші за доступну пам'ять.
+ * 
+ * <p>Сортування виконується у два етапи:</p>
+ * <ul>
+ *   <li>формування серій: вхідний файл читається потоково порціями розміром з бюджет пам'яті,
+ *       кожна порція сортується як примітивний масив і скидається у тимчасовий двійковий файл
+ *       (один байт на значення);</li>
+ *   <li>злиття: серії зливаються k-шляхово за допомогою купи; якщо серій більше за ступінь
+ *       злиття, виконуються проміжні проходи, доки не залишиться не більше k серій.</li>
+ * </ul>
+ * 
+ * <p>Якщо всі дані вміщуються в одну серію, вона записується одразу у вихідний файл без
+ * тимчасових файлів. Вихідний файл має той самий текстовий формат, що й
+ * {@link DataFileHandler#writeArrayToFile}, і так само атомарно замінює цільовий.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java ExternalByteSorter --memory 67108864 --fan-in 16
+ * java BasicDataOperation --external-sort --input huge.data --memory 1048576 --fan-in 4
+ * }
+ * </pre>
+ */
+public class ExternalByteSorter {
+    private static final String USAGE_MESSAGE = "Використання: java ExternalByteSorter [--input <файл>] [--memory <байти>] [--fan-in <n>]\n" +
+"Приклад:\n" +
+"  java ExternalByteSorter --memory 1048576 --fan-in 8";
+
+    static final int DEFAULT_MEMORY_BYTES = 64 << 20;
+    static final int DEFAULT_FAN_IN = 16;
+    private static final int MIN_STREAM_BUFFER_SIZE = 1 << 12;
+    private static final int MAX_STREAM_BUFFER_SIZE = 1 << 20;
+    private static final byte[][] VALUE_TEXT = new byte[256][];
+
+    static {
+        byte[] lineSeparator = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+        for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value++) {
+            byte[] digits = Integer.toString(value).getBytes(StandardCharsets.US_ASCII);
+            byte[] text = Arrays.copyOf(digits, digits.length + lineSeparator.length);
+            System.arraycopy(lineSeparator, 0, text, digits.length, lineSeparator.length);
+            VALUE_TEXT[value & 0xFF] = text;
+        }
+    }
+
+    private final int memoryBytes;
+    private final int fanIn;
+    private final int streamBufferSize;
+
+    private long valueCount;
+    private int runCount;
+    private int mergePasses;
+    private long spilledBytes;
+    private long readBackBytes;
+    private long runPhaseNanos;
+    private long mergePhaseNanos;
+
+    /**
+     * Конструктор сортувальника.
+     * 
+     * @param memoryBytes Бюджет пам'яті для однієї серії в байтах (одне значення - один байт)
+     * @param fanIn Максимальна кількість серій, що зливаються за один прохід
+     * @throws IllegalArgumentException якщо бюджет пам'яті не додатний або ступінь злиття менше 2
+     */
+    public ExternalByteSorter(int memoryBytes, int fanIn) {
+        if (memoryBytes < 1) {
+            throw new IllegalArgumentException("Бюджет пам'яті має бути додатним");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Ступінь злиття має бути не менше 2");
+        }
+        this.memoryBytes = memoryBytes;
+        this.fanIn = fanIn;
+        // під час злиття бюджет ділиться між буферами вхідних серій та вихідним буфером
+        this.streamBufferSize = Math.max(MIN_STREAM_BUFFER_SIZE,
+                Math.min(MAX_STREAM_BUFFER_SIZE, memoryBytes / (fanIn + 1)));
+    }
+
+    /**
+     * Сортує текстовий файл даних byte та записує результат у вихідний файл.
+     * 
+     * <p>Тимчасові файли серій створюються в каталозі вихідного файлу та видаляються
+     * після завершення, зокрема у разі помилки.</p>
+     * 
+     * @param inputPath Шлях до файлу з даними
+     * @param outputPath Шлях до відсортованого файлу
+     * @throws IOException якщо читання або запис не вдалися
+     * @throws NumberFormatException якщо рядок вхідного файлу не є коректним значенням byte
+     */
+    public void sort(String inputPath, String outputPath) throws IOException {
+        Path targetPath = Paths.get(outputPath).toAbsolutePath();
+        List<Path> runs = new ArrayList<>();
+        try {
+            long timeStart = System.nanoTime();
+            byte[] singleRun = createRuns(Paths.get(inputPath), targetPath.getParent(), runs);
+            runPhaseNanos = System.nanoTime() - timeStart;
+
+            timeStart = System.nanoTime();
+            if (singleRun != null) {
+                writeTextAtomically(targetPath, output -> {
+                    for (byte value : singleRun) {
+                        output.write(VALUE_TEXT[value & 0xFF]);
+                    }
+                });
+            } else {
+                while (runs.size() > fanIn) {
+                    runs = mergePass(runs, targetPath.getParent());
+                }
+                List<Path> finalRuns = runs;
+                writeTextAtomically(targetPath, output -> mergeRuns(finalRuns, value -> output.write(VALUE_TEXT[value & 0xFF])));
+                mergePasses++;
+            }
+            mergePhaseNanos = System.nanoTime() - timeStart;
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Читає вхідний файл порціями, сортує кожну порцію та скидає її у тимчасовий файл.
+     * 
+     * @return Відсортовані значення, якщо весь файл вмістився в одну серію, інакше null
+     */
+    private byte[] createRuns(Path inputPath, Path directory, List<Path> runs) throws IOException {
+        long fileSize = Files.size(inputPath);
+        // кожне значення займає щонайменше два байти: цифру та роздільник
+        byte[] run = new byte[(int) Math.min(memoryBytes, fileSize / 2 + 1)];
+
+        try (FileChannel channel = FileChannel.open(inputPath, StandardOpenOption.READ)) {
+            DataFileHandler.ValueReader reader = new DataFileHandler.ValueReader(channel);
+            while (true) {
+                int length = fillRun(reader, run);
+                if (length == 0) {
+                    break;
+                }
+                valueCount += length;
+                Arrays.sort(run, 0, length);
+
+                // неповна перша серія означає, що весь файл вмістився в пам'ять
+                if (runs.isEmpty() && length < run.length) {
+                    runCount = 1;
+                    return Arrays.copyOf(run, length);
+                }
+                runs.add(spill(run, length, directory));
+                runCount++;
+                if (length < run.length) {
+                    break;
+                }
+            }
+        }
+        return runs.isEmpty() ? new byte[0] : null;
+    }
+
+    private static int fillRun(DataFileHandler.ValueReader reader, byte[] run) throws IOException {
+        int length = 0;
+        int readCount;
+        while (length < run.length && (readCount = reader.read(run, length, run.length - length)) != -1) {
+            length += readCount;
+        }
+        return length;
+    }
+
+    private Path spill(byte[] run, int length, Path directory) throws IOException {
+        Path runPath = Files.createTempFile(directory, "sort-run-", ".bin");
+        try (FileChannel channel = FileChannel.open(runPath, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(run, 0, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(runPath);
+            throw e;
+        }
+        spilledBytes += length;
+        return runPath;
+    }
+
+    /**
+     * Зливає серії групами по {@code fanIn} у нові тимчасові серії.
+     */
+    private List<Path> mergePass(List<Path> runs, Path directory) throws IOException {
+        List<Path> mergedRuns = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += fanIn) {
+                List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                Path mergedPath = Files.createTempFile(directory, "sort-run-", ".bin");
+                mergedRuns.add(mergedPath);
+                try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(mergedPath), streamBufferSize)) {
+                    long[] written = new long[1];
+                    mergeRuns(group, value -> {
+                        output.write(value);
+                        written[0]++;
+                    });
+                    spilledBytes += written[0];
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path mergedRun : mergedRuns) {
+                Files.deleteIfExists(mergedRun);
+            }
+            throw e;
+        }
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+        mergePasses++;
+        return mergedRuns;
+    }
+
+    /**
+     * K-шляхове злиття відсортованих серій.
+     * 
+     * <p>Купа впорядкована за поточним значенням кожної серії. Після вибору найменшої серії
+     * з неї видаються всі значення, що не перевищують голову наступної серії, тож для даних
+     * byte з багатьма повторами купа змінюється лише на межах значень.</p>
+     */
+    private void mergeRuns(List<Path> runs, ValueSink sink) throws IOException {
+        PriorityQueue<RunReader> heap = new PriorityQueue<>(runs.size(), Comparator.comparingInt(RunReader::head));
+        try {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run, streamBufferSize);
+                if (reader.advance()) {
+                    heap.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+
+            while (!heap.isEmpty()) {
+                RunReader smallest = heap.poll();
+                RunReader next = heap.peek();
+                int limit = next == null ? Byte.MAX_VALUE : next.head();
+                boolean hasMore;
+                do {
+                    sink.accept((byte) smallest.head());
+                    hasMore = smallest.advance();
+                } while (hasMore && smallest.head() <= limit);
+
+                if (hasMore) {
+                    heap.add(smallest);
+                } else {
+                    readBackBytes += smallest.bytesRead();
+                    smallest.close();
+                }
+            }
+        } finally {
+            for (RunReader reader : heap) {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Записує текстовий файл у тимчасовий файл поруч із цільовим і атомарно замінює цільовий.
+     */
+    private void writeTextAtomically(Path targetPath, DataFileHandler.OutputWriter writer) throws IOException {
+        DataFileHandler.writeAtomically(targetPath, fileOutput -> {
+            OutputStream output = new BufferedOutputStream(fileOutput, streamBufferSize);
+            writer.write(output);
+            output.flush();
+        });
+    }
+
+    /**
+     * Виводить підсумок сортування та додає тривалості етапів до {@link PerformanceTracker}.
+     */
+    public void printReport() {
+        PerformanceTracker.recordOperationTime("зовнішнє сортування: формування серій", runPhaseNanos);
+        PerformanceTracker.recordOperationTime("зовнішнє сортування: злиття", mergePhaseNanos);
+
+        System.out.println("Значень: " + valueCount + ", бюджет пам'яті: " + memoryBytes
+                + " байт, ступінь злиття: " + fanIn);
+        System.out.println("Серій: " + runCount + ", проходів злиття: " + mergePasses);
+        System.out.println(String.format("Формування серій: %.3f мс, злиття: %.3f мс", runPhaseNanos / 1e6, mergePhaseNanos / 1e6));
+        System.out.println(String.format("Скинуто на диск: %d байт (%.1f МіБ/с), прочитано назад: %d байт",
+                spilledBytes, runPhaseNanos + mergePhaseNanos == 0 ? 0.0
+                        : spilledBytes / 1048576.0 / ((runPhaseNanos + mergePhaseNanos) / 1e9),
+                readBackBytes));
+    }
+
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public int getMergePasses() {
+        return mergePasses;
+    }
+
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    public long getReadBackBytes() {
+        return readBackBytes;
+    }
+
+    @FunctionalInterface
+    private interface ValueSink {
+        void accept(byte value) throws IOException;
+    }
+
+    /**
+     * Послідовне читання двійкової серії з поточним значенням.
+     */
+    private static final class RunReader implements AutoCloseable {
+        private final InputStream input;
+        private int head;
+        private long bytesRead;
+
+        RunReader(Path path, int bufferSize) throws IOException {
+            this.input = new BufferedInputStream(Files.newInputStream(path), bufferSize);
+        }
+
+        boolean advance() throws IOException {
+            int value = input.read();
+            if (value < 0) {
+                return false;
+            }
+            head = (byte) value;
+            bytesRead++;
+            return true;
+        }
+
+        int head() {
+            return head;
+        }
+
+        long bytesRead() {
+            return bytesRead;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+
+    /**
+     * Сортує файл даних зовнішнім сортуванням злиттям без завантаження його в пам'ять
+     * і записує результат до файлу з суфіксом .sorted. Той самий режим доступний як
+     * {@code java BasicDataOperation --external-sort ...}.
+     * 
+     * @param args Необов'язкові параметри --input, --memory та --fan-in
+     */
+    public static void main(String[] args) {
+        String inputPath = BasicDataOperation.PATH_TO_DATA_FILE;
+        ExternalByteSorter sorter;
+        try {
+            int memoryBytes = DEFAULT_MEMORY_BYTES;
+            int fanIn = DEFAULT_FAN_IN;
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--input": inputPath = BasicDataOperation.optionValue(args, i++); break;
+                    case "--memory": memoryBytes = Integer.parseInt(BasicDataOperation.optionValue(args, i++)); break;
+                    case "--fan-in": fanIn = Integer.parseInt(BasicDataOperation.optionValue(args, i++)); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+            sorter = new ExternalByteSorter(memoryBytes, fanIn);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        String outputPath = inputPath + ".sorted";
+        try {
+            long timeStart = System.nanoTime();
+            sorter.sort(inputPath, outputPath);
+            PerformanceTracker.displayOperationTime(timeStart, "зовнішнє сортування файлу");
+            sorter.printReport();
+            System.out.println("Результат збережено до файлу: " + outputPath);
+        } catch (NumberFormatException e) {
+            System.out.println("Помилка: " + e.getMessage());
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+}
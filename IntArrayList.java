@@ -0,0 +1,229 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Клас IntArrayList - несинхронізований список примітивних значень int.
+ * 
+ * <p>Реалізує {@link java.util.List}&lt;Integer&gt; для сумісності з наявним кодом, але
+ * зберігає дані у масиві int[] і надає методи {@link #sort()}, {@link #binarySearch(int)},
+ * {@link #min()} та {@link #max()}, які працюють без упаковки значень.</p>
+ */
+public class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Створює порожній список.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Створює порожній список заданої початкової місткості.
+     * 
+     * @param initialCapacity Початкова місткість
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Від'ємна місткість: " + initialCapacity);
+        }
+        this.elements = new int[initialCapacity];
+    }
+
+    /**
+     * Створює список з копією примітивного масиву.
+     * 
+     * @param values Початкові значення
+     */
+    public IntArrayList(int[] values) {
+        this.elements = values.clone();
+        this.size = values.length;
+    }
+
+    /**
+     * Створює список зі значень колекції об'єктів.
+     * 
+     * @param values Початкові значення
+     */
+    public IntArrayList(Collection<? extends Integer> values) {
+        this(values.size());
+        for (Integer value : values) {
+            elements[size++] = value;
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Індекс: " + index + ", розмір: " + size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Повертає значення за індексом без упаковки.
+     * 
+     * @param index Індекс елемента
+     * @return Значення int
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Індекс: " + index + ", розмір: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Додає значення в кінець списку без упаковки.
+     * 
+     * @param value Значення int
+     */
+    public void addInt(int value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index);
+        int previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Упорядковує список за зростанням без упаковки.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+        modCount++;
+    }
+
+    /**
+     * Для природного порядку (comparator == null) використовує примітивне сортування.
+     */
+    @Override
+    public void sort(Comparator<? super Integer> comparator) {
+        if (comparator == null) {
+            sort();
+        } else {
+            super.sort(comparator);
+        }
+    }
+
+    /**
+     * Шукає значення у впорядкованому списку.
+     * 
+     * @param value Значення для пошуку
+     * @return Позиція значення або {@code -(точка вставки) - 1}
+     */
+    public int binarySearch(int value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+
+    /**
+     * Повертає найменше значення за один прохід без упаковки.
+     * 
+     * @return Мінімальне значення
+     * @throws NoSuchElementException якщо список порожній
+     */
+    public int min() {
+        if (size == 0) {
+            throw new NoSuchElementException("Список порожній");
+        }
+        int minValue = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] < minValue) {
+                minValue = elements[i];
+            }
+        }
+        return minValue;
+    }
+
+    /**
+     * Повертає найбільше значення за один прохід без упаковки.
+     * 
+     * @return Максимальне значення
+     * @throws NoSuchElementException якщо список порожній
+     */
+    public int max() {
+        if (size == 0) {
+            throw new NoSuchElementException("Список порожній");
+        }
+        int maxValue = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] > maxValue) {
+                maxValue = elements[i];
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Повертає внутрішній масив без копіювання, наприклад для однопрохідної статистики.
+     * Значимі лише перші {@link #size()} елементів; після зміни списку масив може бути замінено.
+     * 
+     * @return Внутрішній масив int
+     */
+    int[] backingArray() {
+        return elements;
+    }
+
+    /**
+     * Повертає копію значень у вигляді примітивного масиву.
+     * 
+     * @return Масив int
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
@@ -0,0 +1,239 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Клас IsoInstantParser розбирає дату й час ISO-8601 фіксованої ширини у секунди від епохи.
+ * 
+ * <p>Підтримуються формати {@code yyyy-MM-ddTHH:mm:ssZ} (Instant) та {@code yyyy-MM-ddTHH:mm:ss}
+ * (LocalDateTime, розглядається як UTC) - так само, як у {@link TypedDataPipeline}. Розбір
+ * виконується безпосередньо з байтів або символів без створення рядків і об'єктів дати:
+ * кількість днів від епохи обчислюється арифметично за григоріанським календарем.</p>
+ * 
+ * <p>Файл читається блоками через {@link FileChannel}; кожен рядок копіюється до невеликого
+ * буфера фіксованого розміру, тож пам'ять на рядок не виділяється.</p>
+ */
+public final class IsoInstantParser {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int LOCAL_LENGTH = 19;
+    private static final int INSTANT_LENGTH = 20;
+    private static final int MAX_LINE_LENGTH = 64;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final int DAYS_0000_TO_1970 = 719_468;
+
+    private IsoInstantParser() {
+    }
+
+    /**
+     * Розбирає дату й час з рядка.
+     * 
+     * @param text Текст у форматі {@code yyyy-MM-ddTHH:mm:ss[Z]}
+     * @return Секунди від епохи (UTC)
+     * @throws NumberFormatException якщо текст не відповідає формату або дата некоректна
+     */
+    public static long parseEpochSeconds(CharSequence text) {
+        int length = text.length();
+        if (length != LOCAL_LENGTH && !(length == INSTANT_LENGTH && text.charAt(LOCAL_LENGTH) == 'Z')) {
+            throw new NumberFormatException("Невірний формат дати й часу: " + text);
+        }
+        if (text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            throw new NumberFormatException("Невірний формат дати й часу: " + text);
+        }
+        return toEpochSeconds(
+                digits(text.charAt(0), text.charAt(1), text.charAt(2), text.charAt(3)),
+                digits(text.charAt(5), text.charAt(6)),
+                digits(text.charAt(8), text.charAt(9)),
+                digits(text.charAt(11), text.charAt(12)),
+                digits(text.charAt(14), text.charAt(15)),
+                digits(text.charAt(17), text.charAt(18)));
+    }
+
+    /**
+     * Розбирає дату й час з ділянки масиву байтів ASCII.
+     * 
+     * @param bytes Масив байтів
+     * @param offset Початок значення
+     * @param length Довжина значення (19 або 20 байтів)
+     * @return Секунди від епохи (UTC)
+     * @throws NumberFormatException якщо значення не відповідає формату або дата некоректна
+     */
+    public static long parseEpochSeconds(byte[] bytes, int offset, int length) {
+        if (length != LOCAL_LENGTH && !(length == INSTANT_LENGTH && bytes[offset + LOCAL_LENGTH] == 'Z')) {
+            throw new NumberFormatException("Невірна довжина значення дати й часу: " + length);
+        }
+        if (bytes[offset + 4] != '-' || bytes[offset + 7] != '-' || bytes[offset + 10] != 'T'
+                || bytes[offset + 13] != ':' || bytes[offset + 16] != ':') {
+            throw new NumberFormatException("Невірні роздільники дати й часу");
+        }
+        return toEpochSeconds(
+                digits(bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3]),
+                digits(bytes[offset + 5], bytes[offset + 6]),
+                digits(bytes[offset + 8], bytes[offset + 9]),
+                digits(bytes[offset + 11], bytes[offset + 12]),
+                digits(bytes[offset + 14], bytes[offset + 15]),
+                digits(bytes[offset + 17], bytes[offset + 18]));
+    }
+
+    private static int digit(int symbol) {
+        int value = symbol - '0';
+        if (value < 0 || value > 9) {
+            throw new NumberFormatException("Очікувалася цифра замість '" + (char) symbol + "'");
+        }
+        return value;
+    }
+
+    private static int digits(int tens, int ones) {
+        return digit(tens) * 10 + digit(ones);
+    }
+
+    private static int digits(int thousands, int hundreds, int tens, int ones) {
+        return digits(thousands, hundreds) * 100 + digits(tens, ones);
+    }
+
+    /**
+     * Перетворює складові дати й часу на секунди від епохи з перевіркою меж.
+     */
+    static long toEpochSeconds(int year, int month, int day, int hour, int minute, int second) {
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw new NumberFormatException("Некоректна дата " + year + "-" + month + "-" + day);
+        }
+        if (hour > 23 || minute > 59 || second > 59) {
+            throw new NumberFormatException("Некоректний час " + hour + ":" + minute + ":" + second);
+        }
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2: return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11: return 30;
+            default: return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Кількість днів від 1970-01-01 для дати пролептичного григоріанського календаря
+     * (рік починається з березня, тому 29 лютого припадає на кінець року).
+     */
+    static long epochDay(int year, int month, int day) {
+        int shiftedYear = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(shiftedYear, 400);
+        int yearOfEra = shiftedYear - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Завантажує всі значення файлу у масив секунд від епохи у порядку рядків файлу.
+     * BOM відкидається, порожні рядки та пробіли на краях рядка пропускаються.
+     * 
+     * @param filePath Шлях до файлу даних
+     * @return Масив секунд від епохи
+     * @throws IOException якщо читання не вдалося
+     * @throws NumberFormatException якщо рядок не є коректною датою й часом
+     */
+    public static long[] loadEpochSeconds(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            return loadEpochSeconds(channel, channel.size());
+        }
+    }
+
+    /**
+     * Завантажує всі значення з каналу у масив секунд від епохи.
+     * 
+     * @param channel Канал з текстовими даними, по одному значенню в рядку
+     * @param sizeHint Очікуваний обсяг даних у байтах або 0, якщо він невідомий
+     * @return Масив секунд від епохи
+     * @throws IOException якщо читання не вдалося
+     * @throws NumberFormatException якщо рядок не є коректною датою й часом
+     */
+    public static long[] loadEpochSeconds(ReadableByteChannel channel, long sizeHint) throws IOException {
+        // кожне значення займає щонайменше 20 байтів: 19 символів і роздільник
+        long[] resultArray = new long[(int) Math.max(INITIAL_CAPACITY, Math.min(sizeHint / (LOCAL_LENGTH + 1) + 1, Integer.MAX_VALUE - 8))];
+        int currentIndex = 0;
+
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        byte[] line = new byte[MAX_LINE_LENGTH];
+        int lineLength = 0;
+        long lineNumber = 1;
+        boolean firstBlock = true;
+
+        while (true) {
+            int readBytes = channel.read(buffer);
+            boolean endOfInput = readBytes == -1;
+            buffer.flip();
+
+            // Видаляємо BOM лише один раз, на початку файлу
+            if (firstBlock && buffer.hasRemaining()) {
+                firstBlock = false;
+                if (buffer.remaining() >= 3
+                        && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB && (buffer.get(2) & 0xFF) == 0xBF) {
+                    buffer.position(3);
+                }
+            }
+
+            while (buffer.hasRemaining()) {
+                byte symbol = buffer.get();
+                if (symbol == '\n' || symbol == '\r') {
+                    if (lineLength > 0) {
+                        if (currentIndex == resultArray.length) {
+                            resultArray = Arrays.copyOf(resultArray, resultArray.length + (resultArray.length >> 1));
+                        }
+                        resultArray[currentIndex++] = parseLine(line, lineLength, lineNumber);
+                        lineLength = 0;
+                    }
+                    if (symbol == '\n') {
+                        lineNumber++;
+                    }
+                } else if (lineLength == 0 && (symbol == ' ' || symbol == '\t')) {
+                    // пробіли на початку рядка пропускаються
+                } else if (lineLength < MAX_LINE_LENGTH) {
+                    line[lineLength++] = symbol;
+                } else {
+                    throw new NumberFormatException("Задовгий рядок " + lineNumber);
+                }
+            }
+            buffer.clear();
+
+            if (endOfInput) {
+                break;
+            }
+        }
+
+        // останній рядок може не завершуватися символом нового рядка
+        if (lineLength > 0) {
+            if (currentIndex == resultArray.length) {
+                resultArray = Arrays.copyOf(resultArray, resultArray.length + 1);
+            }
+            resultArray[currentIndex++] = parseLine(line, lineLength, lineNumber);
+        }
+
+        return currentIndex == resultArray.length ? resultArray : Arrays.copyOf(resultArray, currentIndex);
+    }
+
+    private static long parseLine(byte[] line, int lineLength, long lineNumber) {
+        int length = lineLength;
+        while (length > 0 && (line[length - 1] == ' ' || line[length - 1] == '\t')) {
+            length--;
+        }
+        try {
+            return parseEpochSeconds(line, 0, length);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException(e.getMessage() + " у рядку " + lineNumber);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Клас LongArrayList - несинхронізований список примітивних значень long.
+ * 
+ * <p>Реалізує {@link java.util.List}&lt;Long&gt; для сумісності з наявним кодом, але
+ * зберігає дані у масиві long[] і надає методи {@link #sort()}, {@link #binarySearch(long)},
+ * {@link #min()} та {@link #max()}, які працюють без упаковки значень.</p>
+ */
+public class LongArrayList extends AbstractList<Long> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private int size;
+
+    /**
+     * Створює порожній список.
+     */
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Створює порожній список заданої початкової місткості.
+     * 
+     * @param initialCapacity Початкова місткість
+     */
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Від'ємна місткість: " + initialCapacity);
+        }
+        this.elements = new long[initialCapacity];
+    }
+
+    /**
+     * Створює список з копією примітивного масиву.
+     * 
+     * @param values Початкові значення
+     */
+    public LongArrayList(long[] values) {
+        this.elements = values.clone();
+        this.size = values.length;
+    }
+
+    /**
+     * Створює список зі значень колекції об'єктів.
+     * 
+     * @param values Початкові значення
+     */
+    public LongArrayList(Collection<? extends Long> values) {
+        this(values.size());
+        for (Long value : values) {
+            elements[size++] = value;
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Індекс: " + index + ", розмір: " + size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Повертає значення за індексом без упаковки.
+     * 
+     * @param index Індекс елемента
+     * @return Значення long
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    @Override
+    public Long set(int index, Long value) {
+        checkIndex(index);
+        long previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Long value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Індекс: " + index + ", розмір: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Додає значення в кінець списку без упаковки.
+     * 
+     * @param value Значення long
+     */
+    public void addLong(long value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        modCount++;
+    }
+
+    @Override
+    public Long remove(int index) {
+        checkIndex(index);
+        long previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Упорядковує список за зростанням без упаковки.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+        modCount++;
+    }
+
+    /**
+     * Для природного порядку (comparator == null) використовує примітивне сортування.
+     */
+    @Override
+    public void sort(Comparator<? super Long> comparator) {
+        if (comparator == null) {
+            sort();
+        } else {
+            super.sort(comparator);
+        }
+    }
+
+    /**
+     * Шукає значення у впорядкованому списку.
+     * 
+     * @param value Значення для пошуку
+     * @return Позиція значення або {@code -(точка вставки) - 1}
+     */
+    public int binarySearch(long value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+
+    /**
+     * Повертає найменше значення за один прохід без упаковки.
+     * 
+     * @return Мінімальне значення
+     * @throws NoSuchElementException якщо список порожній
+     */
+    public long min() {
+        if (size == 0) {
+            throw new NoSuchElementException("Список порожній");
+        }
+        long minValue = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] < minValue) {
+                minValue = elements[i];
+            }
+        }
+        return minValue;
+    }
+
+    /**
+     * Повертає найбільше значення за один прохід без упаковки.
+     * 
+     * @return Максимальне значення
+     * @throws NoSuchElementException якщо список порожній
+     */
+    public long max() {
+        if (size == 0) {
+            throw new NoSuchElementException("Список порожній");
+        }
+        long maxValue = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] > maxValue) {
+                maxValue = elements[i];
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Повертає внутрішній масив без копіювання, наприклад для однопрохідної статистики.
+     * Значимі лише перші {@link #size()} елементів; після зміни списку масив може бути замінено.
+     * 
+     * @return Внутрішній масив long
+     */
+    long[] backingArray() {
+        return elements;
+    }
+
+    /**
+     * Повертає копію значень у вигляді примітивного масиву.
+     * 
+     * @return Масив long
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
@@ -0,0 +1,419 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Клас OffHeapPetRegistry - реєстр тварин, дані якого зберігаються поза купою Java.
+ * 
+ * <p>Записи зберігаються у двох прямих буферах ({@link ByteBuffer#allocateDirect(int)}):</p>
+ * <ul>
+ *   <li>таблиця з відкритою адресацією (лінійне зондування), кожна комірка якої містить
+ *       хеш ключа та зміщення запису;</li>
+ *   <li>область даних, куди дописуються записи {@code [довжина ключа][довжина значення][ключ][значення]}
+ *       у кодуванні UTF-8.</li>
+ * </ul>
+ * 
+ * <p>На купі залишаються лише сам об'єкт реєстру та два об'єкти буферів, тому кількість записів
+ * не впливає на роботу збирача сміття. Оновлення та видалення залишають старі записи в області
+ * даних; коли такі записи займають більшу її частину, область ущільнюється. Пошук за власником
+ * ({@link #findPetsByOwner}, {@link #removeByOwner}) переглядає всю таблицю - O(n) - і повертає
+ * лише клички. Ключі, що декодуються під час обходу {@link #entrySet()}, не потрапляють до пулу
+ * {@code Pet.of}, тож після обходу їх звільняє збирач сміття.</p>
+ * 
+ * <p>Розмір області даних обмежений 2 ГіБ (зміщення типу int). Клас не є потокобезпечним.</p>
+ */
+public class OffHeapPetRegistry extends AbstractMap<BasicDataOperationUsingMap.Pet, String> {
+    private static final int SLOT_SIZE = 2 * Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+    private static final double MAX_LOAD_FACTOR = 0.6;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_DATA_SIZE = Integer.MAX_VALUE - 8;
+
+    private ByteBuffer slots;
+    private int capacity;
+    private int size;
+    private int usedSlots;
+
+    private ByteBuffer records;
+    private int recordsEnd;
+    private long garbageBytes;
+
+    /**
+     * Створює порожній реєстр.
+     */
+    public OffHeapPetRegistry() {
+        this(1024);
+    }
+
+    /**
+     * Створює порожній реєстр, розрахований на задану кількість записів.
+     * 
+     * @param expectedSize Очікувана кількість записів
+     */
+    public OffHeapPetRegistry(int expectedSize) {
+        this.capacity = tableSizeFor((int) Math.min(Integer.MAX_VALUE / SLOT_SIZE, expectedSize / MAX_LOAD_FACTOR + 1));
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        this.records = ByteBuffer.allocateDirect((int) Math.min(MAX_DATA_SIZE, Math.max(4096L, expectedSize * 32L)));
+    }
+
+    private static int tableSizeFor(int minimum) {
+        int tableSize = MIN_CAPACITY;
+        while (tableSize < minimum) {
+            tableSize <<= 1;
+        }
+        return tableSize;
+    }
+
+    private static int spread(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    // ===== Комірки таблиці =====
+
+    private int slotHash(int slot) {
+        return slots.getInt(slot * SLOT_SIZE);
+    }
+
+    private int slotReference(int slot) {
+        return slots.getInt(slot * SLOT_SIZE + Integer.BYTES);
+    }
+
+    private void setSlot(int slot, int hash, int reference) {
+        slots.putInt(slot * SLOT_SIZE, hash);
+        slots.putInt(slot * SLOT_SIZE + Integer.BYTES, reference);
+    }
+
+    /**
+     * Шукає комірку з ключем.
+     * 
+     * @return Номер комірки або {@code -(комірка для вставки) - 1}
+     */
+    private int findSlot(byte[] key, int hash) {
+        int mask = capacity - 1;
+        int slot = spread(hash) & mask;
+        int firstDeleted = -1;
+        while (true) {
+            int reference = slotReference(slot);
+            if (reference == EMPTY) {
+                return -(firstDeleted >= 0 ? firstDeleted : slot) - 1;
+            }
+            if (reference == DELETED) {
+                if (firstDeleted < 0) {
+                    firstDeleted = slot;
+                }
+            } else if (slotHash(slot) == hash && keyEquals(reference - 1, key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void resizeTable(int newCapacity) {
+        ByteBuffer oldSlots = slots;
+        int oldCapacity = capacity;
+
+        slots = ByteBuffer.allocateDirect(newCapacity * SLOT_SIZE);
+        capacity = newCapacity;
+        int mask = newCapacity - 1;
+        for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            int reference = oldSlots.getInt(oldSlot * SLOT_SIZE + Integer.BYTES);
+            if (reference > 0) {
+                int hash = oldSlots.getInt(oldSlot * SLOT_SIZE);
+                int slot = spread(hash) & mask;
+                while (slotReference(slot) != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                setSlot(slot, hash, reference);
+            }
+        }
+        usedSlots = size;
+    }
+
+    // ===== Область даних =====
+
+    private int keyLength(int offset) {
+        return records.getInt(offset);
+    }
+
+    private int valueLength(int offset) {
+        return records.getInt(offset + Integer.BYTES);
+    }
+
+    private int recordLength(int offset) {
+        return RECORD_HEADER_SIZE + keyLength(offset) + valueLength(offset);
+    }
+
+    private boolean keyEquals(int offset, byte[] key) {
+        return keyLength(offset) == key.length && bytesEqual(offset + RECORD_HEADER_SIZE, key);
+    }
+
+    private boolean valueEquals(int offset, byte[] value) {
+        return valueLength(offset) == value.length && bytesEqual(offset + RECORD_HEADER_SIZE + keyLength(offset), value);
+    }
+
+    /**
+     * Порівнює байти області даних з масивом абсолютним читанням, без проміжних буферів.
+     */
+    private boolean bytesEqual(int position, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (records.get(position + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decodeKey(int offset) {
+        byte[] key = new byte[keyLength(offset)];
+        records.get(offset + RECORD_HEADER_SIZE, key);
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    private String decodeValue(int offset) {
+        byte[] value = new byte[valueLength(offset)];
+        records.get(offset + RECORD_HEADER_SIZE + keyLength(offset), value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Забезпечує місце для нового запису: спершу ущільнює область даних, якщо більшу її
+     * частину займають застарілі записи, інакше збільшує її вдвічі.
+     */
+    private void ensureRecordSpace(int recordLength) {
+        if ((long) recordsEnd + recordLength <= records.capacity()) {
+            return;
+        }
+        long liveBytes = recordsEnd - garbageBytes;
+        long required = liveBytes + recordLength;
+        if (garbageBytes >= recordsEnd / 2 && required <= records.capacity()) {
+            compact(records.capacity());
+            return;
+        }
+        long newCapacity = Math.max(required, (long) records.capacity() * 2);
+        if (required > MAX_DATA_SIZE) {
+            throw new IllegalStateException("Перевищено максимальний розмір області даних поза купою");
+        }
+        compact((int) Math.min(newCapacity, MAX_DATA_SIZE));
+    }
+
+    /**
+     * Переносить актуальні записи до нового буфера заданої місткості.
+     */
+    private void compact(int newCapacity) {
+        ByteBuffer compacted = ByteBuffer.allocateDirect(newCapacity);
+        int end = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            int reference = slotReference(slot);
+            if (reference > 0) {
+                int offset = reference - 1;
+                int length = recordLength(offset);
+                compacted.put(end, records, offset, length);
+                setSlot(slot, slotHash(slot), end + 1);
+                end += length;
+            }
+        }
+        records = compacted;
+        recordsEnd = end;
+        garbageBytes = 0;
+    }
+
+    private int appendRecord(byte[] key, byte[] value) {
+        int offset = recordsEnd;
+        records.putInt(offset, key.length);
+        records.putInt(offset + Integer.BYTES, value.length);
+        records.put(offset + RECORD_HEADER_SIZE, key);
+        records.put(offset + RECORD_HEADER_SIZE + key.length, value);
+        recordsEnd += RECORD_HEADER_SIZE + key.length + value.length;
+        return offset;
+    }
+
+    private static byte[] encodeKey(Object pet) {
+        if (!(pet instanceof BasicDataOperationUsingMap.Pet)) {
+            return null;
+        }
+        String nickname = ((BasicDataOperationUsingMap.Pet) pet).getNickname();
+        return nickname == null ? null : nickname.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ===== Операції реєстру =====
+
+    @Override
+    public String put(BasicDataOperationUsingMap.Pet pet, String owner) {
+        byte[] key = encodeKey(pet);
+        if (key == null || owner == null) {
+            throw new NullPointerException("Кличка та власник не можуть бути null");
+        }
+        byte[] value = owner.getBytes(StandardCharsets.UTF_8);
+        int hash = pet.hashCode();
+
+        ensureRecordSpace(RECORD_HEADER_SIZE + key.length + value.length);
+        if (usedSlots + 1 > capacity * MAX_LOAD_FACTOR) {
+            resizeTable(size + 1 > capacity * MAX_LOAD_FACTOR / 2 ? capacity * 2 : capacity);
+        }
+
+        int slot = findSlot(key, hash);
+        String previousOwner = null;
+        if (slot >= 0) {
+            int oldOffset = slotReference(slot) - 1;
+            previousOwner = decodeValue(oldOffset);
+            garbageBytes += recordLength(oldOffset);
+        } else {
+            slot = -slot - 1;
+            if (slotReference(slot) == EMPTY) {
+                usedSlots++;
+            }
+            size++;
+        }
+        setSlot(slot, hash, appendRecord(key, value) + 1);
+        return previousOwner;
+    }
+
+    @Override
+    public String get(Object pet) {
+        byte[] key = encodeKey(pet);
+        if (key == null) {
+            return null;
+        }
+        int slot = findSlot(key, pet.hashCode());
+        return slot >= 0 ? decodeValue(slotReference(slot) - 1) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object pet) {
+        byte[] key = encodeKey(pet);
+        return key != null && findSlot(key, pet.hashCode()) >= 0;
+    }
+
+    @Override
+    public String remove(Object pet) {
+        byte[] key = encodeKey(pet);
+        if (key == null) {
+            return null;
+        }
+        int slot = findSlot(key, pet.hashCode());
+        if (slot < 0) {
+            return null;
+        }
+        int offset = slotReference(slot) - 1;
+        String owner = decodeValue(offset);
+        garbageBytes += recordLength(offset);
+        setSlot(slot, 0, DELETED);
+        size--;
+        return owner;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        size = 0;
+        usedSlots = 0;
+        recordsEnd = 0;
+        garbageBytes = 0;
+    }
+
+    /**
+     * Повертає клички тварин заданого власника, переглядаючи всю таблицю.
+     * 
+     * @param owner Ім'я власника
+     * @return Множина кличок (порожня, якщо власника немає)
+     */
+    public Set<String> findPetsByOwner(String owner) {
+        byte[] value = owner.getBytes(StandardCharsets.UTF_8);
+        Set<String> nicknames = new HashSet<>();
+        for (int slot = 0; slot < capacity; slot++) {
+            int reference = slotReference(slot);
+            if (reference > 0 && valueEquals(reference - 1, value)) {
+                nicknames.add(decodeKey(reference - 1));
+            }
+        }
+        return nicknames;
+    }
+
+    /**
+     * Видаляє всіх тварин заданого власника, переглядаючи всю таблицю.
+     * 
+     * @param owner Ім'я власника
+     * @return Множина кличок видалених тварин
+     */
+    public Set<String> removeByOwner(String owner) {
+        byte[] value = owner.getBytes(StandardCharsets.UTF_8);
+        Set<String> removedPets = new HashSet<>();
+        for (int slot = 0; slot < capacity; slot++) {
+            int reference = slotReference(slot);
+            if (reference > 0 && valueEquals(reference - 1, value)) {
+                removedPets.add(decodeKey(reference - 1));
+                garbageBytes += recordLength(reference - 1);
+                setSlot(slot, 0, DELETED);
+                size--;
+            }
+        }
+        return removedPets;
+    }
+
+    /**
+     * Повертає обсяг пам'яті поза купою, зайнятої буферами реєстру.
+     * 
+     * @return Кількість байтів
+     */
+    public long offHeapBytes() {
+        return (long) slots.capacity() + records.capacity();
+    }
+
+    /**
+     * Повертає подання записів лише для читання; ключі та значення декодуються під час обходу.
+     */
+    @Override
+    public Set<Map.Entry<BasicDataOperationUsingMap.Pet, String>> entrySet() {
+        return new AbstractSet<Map.Entry<BasicDataOperationUsingMap.Pet, String>>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Map.Entry<BasicDataOperationUsingMap.Pet, String>> iterator() {
+                return new Iterator<Map.Entry<BasicDataOperationUsingMap.Pet, String>>() {
+                    private int slot = nextOccupied(0);
+
+                    private int nextOccupied(int from) {
+                        int current = from;
+                        while (current < capacity && slotReference(current) <= 0) {
+                            current++;
+                        }
+                        return current;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return slot < capacity;
+                    }
+
+                    @Override
+                    public Map.Entry<BasicDataOperationUsingMap.Pet, String> next() {
+                        if (slot >= capacity) {
+                            throw new NoSuchElementException();
+                        }
+                        int offset = slotReference(slot) - 1;
+                        slot = nextOccupied(slot + 1);
+                        return new AbstractMap.SimpleImmutableEntry<>(
+                                BasicDataOperationUsingMap.Pet.unpooled(decodeKey(offset)), decodeValue(offset));
+                    }
+                };
+            }
+        };
+    }
+}
@@ -1,7 +1,113 @@
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Клас PerformanceTracker відстежує продуктивність операцій з даними.
+ * 
+ * <p>Окрім виведення тривалості окремої операції, клас працює як реєстр метрик:
+ * для кожної назви операції накопичується гістограма затримок високої роздільності,
+ * з якої обчислюються перцентилі p50/p90/p99/p99.9 та максимум. Лічильники подій
+ * (наприклад, влучання та промахи кешу результатів) зберігаються окремо за назвою.</p>
  */
 public class PerformanceTracker {
+    private static final double[] REPORTED_PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private static final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+    private static final Map<String, long[]> counters = new LinkedHashMap<>();
+    private static boolean recording = true;
+    private static boolean verbose = true;
+
+    /**
+     * Гістограма затримок з логарифмічно-лінійними кошиками.
+     * 
+     * <p>Значення до 128 нс зберігаються точно, більші значення групуються у кошики
+     * з відносною похибкою не більше 1/64 (близько 1,6%). Пам'ять гістограми стала
+     * і не залежить від кількості записаних значень.</p>
+     */
+    static final class LatencyHistogram {
+        private static final int EXACT_LIMIT = 128;
+        private static final int SUB_BUCKET_BITS = 6;
+        private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKET_COUNT = EXACT_LIMIT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+        private final long[] counts = new long[BUCKET_COUNT];
+        private long totalCount;
+        private long minValue = Long.MAX_VALUE;
+        private long maxValue;
+        private double sum;
+
+        static int bucketIndex(long value) {
+            if (value < EXACT_LIMIT) {
+                return (int) value;
+            }
+            int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+            int subBucket = (int) (value >>> shift);
+            return EXACT_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + (subBucket - SUB_BUCKET_COUNT);
+        }
+
+        static long highestEquivalentValue(int index) {
+            if (index < EXACT_LIMIT) {
+                return index;
+            }
+            int shift = (index - EXACT_LIMIT) / SUB_BUCKET_COUNT + 1;
+            long subBucket = (index - EXACT_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+            return ((subBucket + 1) << shift) - 1;
+        }
+
+        synchronized void record(long value) {
+            long clampedValue = Math.max(value, 0);
+            counts[bucketIndex(clampedValue)]++;
+            totalCount++;
+            minValue = Math.min(minValue, clampedValue);
+            maxValue = Math.max(maxValue, clampedValue);
+            sum += clampedValue;
+        }
+
+        synchronized long getTotalCount() {
+            return totalCount;
+        }
+
+        synchronized long getMin() {
+            return totalCount == 0 ? 0 : minValue;
+        }
+
+        synchronized long getMax() {
+            return maxValue;
+        }
+
+        synchronized double getMean() {
+            return totalCount == 0 ? 0 : sum / totalCount;
+        }
+
+        /**
+         * Повертає значення, не менше за яке записано задану частку вимірів.
+         * 
+         * @param percentile Перцентиль у діапазоні (0, 100]
+         * @return Верхня межа кошика, обмежена максимальним записаним значенням
+         */
+        synchronized long getValueAtPercentile(double percentile) {
+            if (totalCount == 0) {
+                return 0;
+            }
+            long targetCount = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+            long accumulated = 0;
+            for (int i = 0; i < counts.length; i++) {
+                accumulated += counts[i];
+                if (accumulated >= targetCount) {
+                    return Math.min(highestEquivalentValue(i), maxValue);
+                }
+            }
+            return maxValue;
+        }
+    }
+
     /**
      * Відображає тривалість виконання операції в наносекундах.
      * 
@@ -11,6 +117,182 @@ public class PerformanceTracker {
     public static void displayOperationTime(long startTime, String operationName) {
         long finishTime = System.nanoTime();
         long executionTime = (finishTime - startTime);
-        System.out.println("\n========= Тривалість операції '" + operationName + "': " + executionTime + " нс =========");
+        recordOperationTime(operationName, executionTime);
+        if (verbose) {
+            System.out.println("\n========= Тривалість операції '" + operationName + "': " + executionTime + " нс =========");
+        }
+    }
+
+    /**
+     * Додає вимір тривалості операції до її гістограми.
+     * Під час ітерацій розігріву виміри не зберігаються.
+     * 
+     * @param operationName Назва операції.
+     * @param executionTime Тривалість операції в наносекундах.
+     */
+    public static void recordOperationTime(String operationName, long executionTime) {
+        LatencyHistogram histogram;
+        synchronized (histograms) {
+            if (!recording) {
+                return;
+            }
+            histogram = histograms.computeIfAbsent(operationName, name -> new LatencyHistogram());
+        }
+        histogram.record(executionTime);
+    }
+
+    /**
+     * Вмикає або вимикає збереження вимірів (вимикається на час розігріву).
+     * 
+     * @param enabled true, щоб зберігати виміри
+     */
+    public static void setRecording(boolean enabled) {
+        synchronized (histograms) {
+            recording = enabled;
+        }
+    }
+
+    /**
+     * Вмикає або вимикає виведення тривалості кожної окремої операції.
+     * 
+     * @param enabled true, щоб виводити кожен вимір
+     */
+    public static void setVerbose(boolean enabled) {
+        verbose = enabled;
+    }
+
+    /**
+     * Збільшує лічильник події на одиницю.
+     * Під час ітерацій розігріву події не рахуються.
+     * 
+     * @param counterName Назва лічильника.
+     */
+    public static void incrementCounter(String counterName) {
+        synchronized (histograms) {
+            if (!recording) {
+                return;
+            }
+            counters.computeIfAbsent(counterName, name -> new long[1])[0]++;
+        }
+    }
+
+    /**
+     * Повертає значення лічильника події.
+     * 
+     * @param counterName Назва лічильника.
+     * @return Кількість подій або 0, якщо подій не було
+     */
+    public static long getCounter(String counterName) {
+        synchronized (histograms) {
+            long[] counter = counters.get(counterName);
+            return counter == null ? 0 : counter[0];
+        }
+    }
+
+    /**
+     * Виводить значення всіх лічильників подій, якщо вони є.
+     */
+    public static void printCounterSummary() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>();
+        synchronized (histograms) {
+            for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+                entries.add(Map.entry(entry.getKey(), entry.getValue()[0]));
+            }
+        }
+        for (Map.Entry<String, Long> entry : entries) {
+            System.out.println(String.format("%-60s %8d", entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Очищає всі накопичені гістограми та лічильники.
+     */
+    public static void reset() {
+        synchronized (histograms) {
+            histograms.clear();
+            counters.clear();
+        }
+    }
+
+    private static List<Map.Entry<String, LatencyHistogram>> snapshot() {
+        synchronized (histograms) {
+            return new ArrayList<>(histograms.entrySet());
+        }
+    }
+
+    /**
+     * Виводить таблицю перцентилів затримки для всіх зареєстрованих операцій.
+     */
+    public static void printPercentileSummary() {
+        System.out.println(String.format("%-60s %8s %12s %12s %12s %12s %12s", "Операція", "N",
+                "p50, нс", "p90, нс", "p99, нс", "p99.9, нс", "max, нс"));
+        for (Map.Entry<String, LatencyHistogram> entry : snapshot()) {
+            LatencyHistogram histogram = entry.getValue();
+            System.out.println(String.format("%-60s %8d %12d %12d %12d %12d %12d", entry.getKey(),
+                    histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(REPORTED_PERCENTILES[0]),
+                    histogram.getValueAtPercentile(REPORTED_PERCENTILES[1]),
+                    histogram.getValueAtPercentile(REPORTED_PERCENTILES[2]),
+                    histogram.getValueAtPercentile(REPORTED_PERCENTILES[3]),
+                    histogram.getMax()));
+        }
+    }
+
+    /**
+     * Експортує звіт про затримки у файл. Формат визначається розширенням:
+     * {@code .json} для JSON, інакше CSV.
+     * 
+     * @param filePath Шлях до файлу звіту.
+     */
+    public static void exportReport(String filePath) {
+        boolean json = filePath.toLowerCase().endsWith(".json");
+        List<Map.Entry<String, LatencyHistogram>> entries = snapshot();
+
+        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath, StandardCharsets.UTF_8))) {
+            if (json) {
+                fileWriter.write("[");
+                fileWriter.newLine();
+            } else {
+                fileWriter.write("operation,count,min_ns,mean_ns,p50_ns,p90_ns,p99_ns,p99_9_ns,max_ns");
+                fileWriter.newLine();
+            }
+
+            for (int i = 0; i < entries.size(); i++) {
+                String operationName = entries.get(i).getKey();
+                LatencyHistogram histogram = entries.get(i).getValue();
+                if (json) {
+                    fileWriter.write(String.format(Locale.ROOT,
+                            "  {\"operation\": \"%s\", \"count\": %d, \"min_ns\": %d, \"mean_ns\": %.1f, "
+                            + "\"p50_ns\": %d, \"p90_ns\": %d, \"p99_ns\": %d, \"p99_9_ns\": %d, \"max_ns\": %d}%s",
+                            escapeJson(operationName), histogram.getTotalCount(), histogram.getMin(), histogram.getMean(),
+                            histogram.getValueAtPercentile(REPORTED_PERCENTILES[0]),
+                            histogram.getValueAtPercentile(REPORTED_PERCENTILES[1]),
+                            histogram.getValueAtPercentile(REPORTED_PERCENTILES[2]),
+                            histogram.getValueAtPercentile(REPORTED_PERCENTILES[3]),
+                            histogram.getMax(), i + 1 < entries.size() ? "," : ""));
+                } else {
+                    fileWriter.write(String.format(Locale.ROOT, "\"%s\",%d,%d,%.1f,%d,%d,%d,%d,%d",
+                            operationName.replace("\"", "\"\""), histogram.getTotalCount(), histogram.getMin(),
+                            histogram.getMean(),
+                            histogram.getValueAtPercentile(REPORTED_PERCENTILES[0]),
+                            histogram.getValueAtPercentile(REPORTED_PERCENTILES[1]),
+                            histogram.getValueAtPercentile(REPORTED_PERCENTILES[2]),
+                            histogram.getValueAtPercentile(REPORTED_PERCENTILES[3]),
+                            histogram.getMax()));
+                }
+                fileWriter.newLine();
+            }
+
+            if (json) {
+                fileWriter.write("]");
+                fileWriter.newLine();
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+
+    private static String escapeJson(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,496 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Клас PersistentPetRegistry - {@link PetRegistry}, стан якого зберігається між запусками.
+ * 
+ * <p>Кожна зміна ({@link #put}, {@link #remove}, {@link #removeByOwner}, {@link #clear})
+ * дописується до журналу попереднього запису (write-ahead log) до зміни вмісту в пам'яті:
+ * якщо запис не вдався, зміна не застосовується. Записи журналу накопичуються
+ * в буфері й скидаються на диск групою з одним викликом fsync на кожні {@code groupCommitSize}
+ * змін, а також під час {@link #sync()} та {@link #close()}. Після {@code snapshotInterval} змін
+ * увесь вміст записується у компактний двійковий знімок, а журнал очищується.</p>
+ * 
+ * <p>Під час відкриття завантажується останній знімок і повторюються записи журналу після нього.
+ * Неповний або пошкоджений запис у кінці журналу (обрив під час запису) відкидається.</p>
+ * 
+ * <p>Формат журналу: заголовок (magic, покоління), далі записи
+ * {@code [довжина][тип][рядки UTF-8][CRC32]}. Формат знімка: заголовок (magic, версія, покоління,
+ * кількість записів), пари кличка/власник, CRC32 усього вмісту. Рядок кодується довжиною та
+ * байтами UTF-8; довжина -1 позначає кличку null безіменної тварини ({@code Pet.of(null)}).</p>
+ */
+public class PersistentPetRegistry extends PetRegistry implements Closeable {
+    static final String SNAPSHOT_FILE = "registry.snapshot";
+    static final String LOG_FILE = "registry.wal";
+    static final int DEFAULT_GROUP_COMMIT_SIZE = 64;
+    static final int DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+
+    private static final int SNAPSHOT_MAGIC = 0x50455453;
+    private static final int LOG_MAGIC = 0x5045544C;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int LOG_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    // довжина, якою кодується кличка null (Pet.of(null) - безіменна тварина)
+    private static final int NULL_STRING_LENGTH = -1;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte REMOVE_OWNER = 3;
+    private static final byte CLEAR = 4;
+
+    private final Path directory;
+    private final int groupCommitSize;
+    private final int snapshotInterval;
+    private final ByteArrayOutputStream pendingRecords = new ByteArrayOutputStream();
+    private final DataOutputStream pendingOutput = new DataOutputStream(pendingRecords);
+    private final CRC32 recordChecksum = new CRC32();
+
+    private FileChannel logChannel;
+    private long generation;
+    private int pendingCount;
+    private long changesSinceSnapshot;
+
+    private long syncCount;
+    private long replayedRecords;
+    private int snapshotEntries;
+    private long recoveryNanos;
+
+    private PersistentPetRegistry(Path directory, Map<BasicDataOperationUsingMap.Pet, String> pets,
+            int groupCommitSize, int snapshotInterval) {
+        super(pets);
+        this.directory = directory;
+        this.groupCommitSize = groupCommitSize;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Відкриває реєстр з параметрами за замовчуванням.
+     * 
+     * @param directory Каталог знімка та журналу (створюється за потреби)
+     * @param pets Порожня Map, що визначає порядок ітерації (Hashtable або TreeMap)
+     * @return Відновлений реєстр
+     * @throws IOException якщо читання чи створення файлів не вдалося
+     */
+    public static PersistentPetRegistry open(Path directory, Map<BasicDataOperationUsingMap.Pet, String> pets)
+            throws IOException {
+        return open(directory, pets, DEFAULT_GROUP_COMMIT_SIZE, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Відкриває реєстр: завантажує останній знімок і повторює журнал після нього.
+     * 
+     * @param directory Каталог знімка та журналу (створюється за потреби)
+     * @param pets Порожня Map, що визначає порядок ітерації (Hashtable або TreeMap)
+     * @param groupCommitSize Кількість змін на один виклик fsync
+     * @param snapshotInterval Кількість змін між автоматичними знімками
+     * @return Відновлений реєстр
+     * @throws IOException якщо читання чи створення файлів не вдалося
+     */
+    public static PersistentPetRegistry open(Path directory, Map<BasicDataOperationUsingMap.Pet, String> pets,
+            int groupCommitSize, int snapshotInterval) throws IOException {
+        if (!pets.isEmpty()) {
+            throw new IllegalArgumentException("Map для відновлення має бути порожньою");
+        }
+        if (groupCommitSize < 1 || snapshotInterval < 1) {
+            throw new IllegalArgumentException("Розмір групи та інтервал знімків мають бути додатними");
+        }
+        Files.createDirectories(directory);
+
+        PersistentPetRegistry registry = new PersistentPetRegistry(directory, pets, groupCommitSize, snapshotInterval);
+        long timeStart = System.nanoTime();
+        registry.recover();
+        registry.recoveryNanos = System.nanoTime() - timeStart;
+        PerformanceTracker.recordOperationTime("відновлення реєстру з диска", registry.recoveryNanos);
+        return registry;
+    }
+
+    // ===== Відновлення =====
+
+    private void recover() throws IOException {
+        Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshotPath)) {
+            loadSnapshot(snapshotPath);
+        }
+
+        Path logPath = directory.resolve(LOG_FILE);
+        logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validLength = replayLog(logPath);
+        if (validLength < 0) {
+            // журнал відсутній, порожній або залишився від попереднього покоління
+            resetLog();
+        } else {
+            logChannel.truncate(validLength);
+            logChannel.position(validLength);
+        }
+    }
+
+    private void loadSnapshot(Path snapshotPath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream fileInput = new BufferedInputStream(Files.newInputStream(snapshotPath));
+             DataInputStream input = new DataInputStream(new CheckedInputStream(fileInput, checksum))) {
+            if (input.readInt() != SNAPSHOT_MAGIC || input.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Невідомий формат знімка: " + snapshotPath);
+            }
+            long snapshotGeneration = input.readLong();
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                super.put(BasicDataOperationUsingMap.Pet.of(readString(input)), readString(input));
+            }
+            long expectedChecksum = checksum.getValue();
+            if ((input.readInt() & 0xFFFFFFFFL) != expectedChecksum) {
+                throw new IOException("Контрольна сума знімка не збігається: " + snapshotPath);
+            }
+            generation = snapshotGeneration;
+            snapshotEntries = count;
+        }
+    }
+
+    /**
+     * Повторює записи журналу поточного покоління.
+     * 
+     * @return Довжина коректної частини журналу або -1, якщо журнал треба створити заново
+     */
+    private long replayLog(Path logPath) throws IOException {
+        if (Files.size(logPath) < LOG_HEADER_SIZE) {
+            return -1;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(logPath)))) {
+            if (input.readInt() != LOG_MAGIC) {
+                throw new IOException("Невідомий формат журналу: " + logPath);
+            }
+            if (input.readLong() != generation) {
+                return -1;
+            }
+
+            long validLength = LOG_HEADER_SIZE;
+            byte[] payload = new byte[256];
+            while (true) {
+                int length;
+                try {
+                    length = input.readInt();
+                    if (length <= 0 || length > (1 << 24)) {
+                        break;
+                    }
+                    if (payload.length < length) {
+                        payload = new byte[length];
+                    }
+                    input.readFully(payload, 0, length);
+                    recordChecksum.reset();
+                    recordChecksum.update(payload, 0, length);
+                    if ((input.readInt() & 0xFFFFFFFFL) != recordChecksum.getValue()) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                applyRecord(new DataInputStream(new ByteArrayInputStream(payload, 0, length)));
+                validLength += Integer.BYTES + length + Integer.BYTES;
+                replayedRecords++;
+            }
+            changesSinceSnapshot = replayedRecords;
+            return validLength;
+        }
+    }
+
+    private void applyRecord(DataInputStream record) throws IOException {
+        byte type = record.readByte();
+        switch (type) {
+            case PUT: super.put(BasicDataOperationUsingMap.Pet.of(readString(record)), readString(record)); break;
+            case REMOVE: super.remove(BasicDataOperationUsingMap.Pet.of(readString(record))); break;
+            case REMOVE_OWNER: super.removeByOwner(readString(record)); break;
+            case CLEAR: super.clear(); break;
+            default: throw new IOException("Невідомий тип запису журналу: " + type);
+        }
+    }
+
+    private void resetLog() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+        header.putInt(LOG_MAGIC).putLong(generation).flip();
+        logChannel.truncate(0);
+        logChannel.position(0);
+        while (header.hasRemaining()) {
+            logChannel.write(header);
+        }
+        logChannel.force(true);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length == NULL_STRING_LENGTH) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IOException("Невірна довжина рядка: " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_STRING_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    // ===== Журнал змін =====
+
+    /**
+     * Дописує запис до журналу перед зміною вмісту в пам'яті. Запис, що завершує групу,
+     * одразу скидається на диск разом з буфером. Якщо це не вдалося, запис не потрапляє
+     * ні до буфера, ні до журналу, тож пам'ять і журнал залишаються узгодженими.
+     */
+    private void appendRecord(byte type, String... values) {
+        try {
+            ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(32);
+            DataOutputStream payload = new DataOutputStream(payloadBytes);
+            payload.writeByte(type);
+            for (String value : values) {
+                writeString(payload, value);
+            }
+
+            byte[] record = payloadBytes.toByteArray();
+            recordChecksum.reset();
+            recordChecksum.update(record);
+            ByteBuffer framedRecord = ByteBuffer.allocate(Integer.BYTES + record.length + Integer.BYTES);
+            framedRecord.putInt(record.length).put(record).putInt((int) recordChecksum.getValue()).flip();
+
+            if (pendingCount + 1 >= groupCommitSize) {
+                writeToLog(framedRecord);
+            } else {
+                pendingOutput.write(framedRecord.array());
+                pendingCount++;
+            }
+            changesSinceSnapshot++;
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Записує знімок, якщо з попереднього накопичилося досить змін. Викликається після
+     * зміни в пам'яті, щоб знімок уже містив її.
+     */
+    private void snapshotIfDue() {
+        if (changesSinceSnapshot >= snapshotInterval) {
+            try {
+                snapshot();
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+        }
+    }
+
+    @Override
+    public synchronized String put(BasicDataOperationUsingMap.Pet pet, String owner) {
+        Objects.requireNonNull(owner, "owner");
+        appendRecord(PUT, pet.getNickname(), owner);
+        String previousOwner = super.put(pet, owner);
+        snapshotIfDue();
+        return previousOwner;
+    }
+
+    @Override
+    public synchronized String remove(Object pet) {
+        if (!containsKey(pet)) {
+            return null;
+        }
+        appendRecord(REMOVE, ((BasicDataOperationUsingMap.Pet) pet).getNickname());
+        String owner = super.remove(pet);
+        snapshotIfDue();
+        return owner;
+    }
+
+    @Override
+    public synchronized Set<BasicDataOperationUsingMap.Pet> removeByOwner(String owner) {
+        if (findPetsByOwner(owner).isEmpty()) {
+            return Collections.emptySet();
+        }
+        appendRecord(REMOVE_OWNER, owner);
+        Set<BasicDataOperationUsingMap.Pet> removedPets = super.removeByOwner(owner);
+        snapshotIfDue();
+        return removedPets;
+    }
+
+    @Override
+    public synchronized void clear() {
+        appendRecord(CLEAR);
+        super.clear();
+        snapshotIfDue();
+    }
+
+    /**
+     * Записує накопичені зміни до журналу та виконує один fsync для всієї групи.
+     * 
+     * @throws IOException якщо запис не вдався
+     */
+    public synchronized void sync() throws IOException {
+        if (pendingCount == 0) {
+            return;
+        }
+        writeToLog(null);
+    }
+
+    /**
+     * Записує буфер змін і, за потреби, ще один запис до журналу з одним fsync.
+     * Якщо запис не вдався, журнал обрізається до попередньої довжини, а буфер
+     * зберігається для наступної спроби.
+     * 
+     * @param framedRecord Запис, що не входить до буфера, або null
+     * @throws IOException якщо запис не вдався
+     */
+    private void writeToLog(ByteBuffer framedRecord) throws IOException {
+        long logLength = logChannel.position();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(pendingRecords.toByteArray());
+            while (buffer.hasRemaining()) {
+                logChannel.write(buffer);
+            }
+            while (framedRecord != null && framedRecord.hasRemaining()) {
+                logChannel.write(framedRecord);
+            }
+            logChannel.force(false);
+        } catch (IOException ioException) {
+            try {
+                logChannel.truncate(logLength);
+                logChannel.position(logLength);
+            } catch (IOException truncateException) {
+                ioException.addSuppressed(truncateException);
+            }
+            throw ioException;
+        }
+        pendingRecords.reset();
+        pendingCount = 0;
+        syncCount++;
+    }
+
+    /**
+     * Записує компактний знімок усього реєстру та починає нове покоління журналу.
+     * Знімок спершу пишеться у тимчасовий файл і атомарно замінює попередній.
+     * 
+     * @throws IOException якщо запис не вдався
+     */
+    public synchronized void snapshot() throws IOException {
+        long timeStart = System.nanoTime();
+        long nextGeneration = generation + 1;
+        Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        Path tempPath = directory.resolve(SNAPSHOT_FILE + ".tmp");
+
+        CRC32 checksum = new CRC32();
+        try (FileOutputStream fileOutput = new FileOutputStream(tempPath.toFile())) {
+            DataOutputStream output = new DataOutputStream(
+                    new CheckedOutputStream(new BufferedOutputStream(fileOutput, 1 << 16), checksum));
+            output.writeInt(SNAPSHOT_MAGIC);
+            output.writeInt(SNAPSHOT_VERSION);
+            output.writeLong(nextGeneration);
+            output.writeInt(size());
+            for (Map.Entry<BasicDataOperationUsingMap.Pet, String> entry : entrySet()) {
+                writeString(output, entry.getKey().getNickname());
+                writeString(output, entry.getValue());
+            }
+            output.flush();
+            new DataOutputStream(fileOutput).writeInt((int) checksum.getValue());
+            fileOutput.getFD().sync();
+        }
+        Files.move(tempPath, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        // перейменування має дійти до диска раніше за журнал нового покоління, інакше після збою
+        // старий знімок опиниться поруч із новим журналом і всі зміни після нього буде втрачено
+        syncDirectory(directory);
+
+        // зміни з буфера вже містяться у знімку
+        generation = nextGeneration;
+        pendingRecords.reset();
+        pendingCount = 0;
+        changesSinceSnapshot = 0;
+        resetLog();
+
+        PerformanceTracker.recordOperationTime("запис знімка реєстру", System.nanoTime() - timeStart);
+    }
+
+    /**
+     * Скидає на диск зміни вмісту каталогу (створення та перейменування файлів).
+     * 
+     * @param directory Каталог
+     * @throws IOException якщо fsync каталогу не вдався
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel directoryChannel;
+        try {
+            directoryChannel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException unsupported) {
+            // Windows не дозволяє відкрити каталог; там перейменування фіксує журнал NTFS
+            return;
+        }
+        try (directoryChannel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    /**
+     * Скидає незаписані зміни на диск і закриває журнал.
+     * 
+     * @throws IOException якщо запис не вдався
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (logChannel != null && logChannel.isOpen()) {
+            sync();
+            logChannel.close();
+        }
+    }
+
+    /**
+     * @return Тривалість відновлення під час відкриття в наносекундах
+     */
+    public long getRecoveryNanos() {
+        return recoveryNanos;
+    }
+
+    /**
+     * @return Кількість записів, завантажених зі знімка під час відкриття
+     */
+    public int getSnapshotEntries() {
+        return snapshotEntries;
+    }
+
+    /**
+     * @return Кількість записів журналу, повторених під час відкриття
+     */
+    public long getReplayedRecords() {
+        return replayedRecords;
+    }
+
+    /**
+     * @return Кількість виконаних групових fsync
+     */
+    public synchronized long getSyncCount() {
+        return syncCount;
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Клас PetRegistry - двонаправлений реєстр тварин: основна Map (Pet -> власник)
+ * разом із вторинним індексом власник -> множина тварин.
+ * 
+ * <p>Індекс оновлюється під час кожного {@link #put} та {@link #remove}, тому пошук
+ * за власником виконується за O(1), а видалення всіх тварин власника - за O(k),
+ * де k - кількість його тварин. Порядок ітерації визначає основна Map
+ * (Hashtable або TreeMap), передана в конструктор.</p>
+ * 
+ * <p>{@link #version()} - версія вмісту для ключів {@link QueryResultCache}. Кожен реєстр
+ * отримує нову версію під час створення і після кожної зміни; версії беруться зі
+ * спільного монотонного лічильника, тож дві різні версії ніколи не збігаються.</p>
+ * 
+ * <p>Значення (ім'я власника) не може бути null.</p>
+ */
+public class PetRegistry extends AbstractMap<BasicDataOperationUsingMap.Pet, String> {
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final Map<BasicDataOperationUsingMap.Pet, String> pets;
+    private final Map<BasicDataOperationUsingMap.Pet, String> readOnlyPets;
+    private final Map<String, Set<BasicDataOperationUsingMap.Pet>> petsByOwner = new HashMap<>();
+    private long version = nextVersion();
+
+    /**
+     * Створює реєстр поверх наявної Map та індексує її вміст.
+     * 
+     * @param pets Основна Map (ключ: Pet, значення: ім'я власника)
+     */
+    public PetRegistry(Map<BasicDataOperationUsingMap.Pet, String> pets) {
+        this.pets = pets;
+        this.readOnlyPets = Collections.unmodifiableMap(pets);
+        for (Map.Entry<BasicDataOperationUsingMap.Pet, String> entry : pets.entrySet()) {
+            index(entry.getKey(), Objects.requireNonNull(entry.getValue(), "owner"));
+        }
+    }
+
+    /**
+     * Видає нову версію вмісту, більшу за всі видані раніше.
+     * 
+     * @return Нова версія
+     */
+    static long nextVersion() {
+        return VERSIONS.incrementAndGet();
+    }
+
+    private void index(BasicDataOperationUsingMap.Pet pet, String owner) {
+        petsByOwner.computeIfAbsent(owner, key -> new HashSet<>()).add(pet);
+    }
+
+    private void unindex(BasicDataOperationUsingMap.Pet pet, String owner) {
+        Set<BasicDataOperationUsingMap.Pet> ownerPets = petsByOwner.get(owner);
+        if (ownerPets != null && ownerPets.remove(pet) && ownerPets.isEmpty()) {
+            petsByOwner.remove(owner);
+        }
+    }
+
+    @Override
+    public String put(BasicDataOperationUsingMap.Pet pet, String owner) {
+        Objects.requireNonNull(owner, "owner");
+        String previousOwner = pets.put(pet, owner);
+        if (previousOwner != null) {
+            unindex(pet, previousOwner);
+        }
+        index(pet, owner);
+        version = nextVersion();
+        return previousOwner;
+    }
+
+    @Override
+    public String remove(Object pet) {
+        String owner = pets.remove(pet);
+        if (owner != null) {
+            unindex((BasicDataOperationUsingMap.Pet) pet, owner);
+            version = nextVersion();
+        }
+        return owner;
+    }
+
+    @Override
+    public String get(Object pet) {
+        return pets.get(pet);
+    }
+
+    @Override
+    public boolean containsKey(Object pet) {
+        return pets.containsKey(pet);
+    }
+
+    /**
+     * Перевіряє наявність власника за індексом за O(1).
+     */
+    @Override
+    public boolean containsValue(Object owner) {
+        return petsByOwner.containsKey(owner);
+    }
+
+    @Override
+    public int size() {
+        return pets.size();
+    }
+
+    @Override
+    public void clear() {
+        pets.clear();
+        petsByOwner.clear();
+        version = nextVersion();
+    }
+
+    /**
+     * Повертає поточну версію вмісту реєстру.
+     * 
+     * @return Версія, що змінюється після кожної зміни записів
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Повертає незмінне подання записів основної Map; зміни виконуються лише через реєстр.
+     */
+    @Override
+    public Set<Map.Entry<BasicDataOperationUsingMap.Pet, String>> entrySet() {
+        return readOnlyPets.entrySet();
+    }
+
+    /**
+     * Повертає тварин заданого власника.
+     * 
+     * @param owner Ім'я власника
+     * @return Незмінна множина тварин (порожня, якщо власника немає)
+     */
+    public Set<BasicDataOperationUsingMap.Pet> findPetsByOwner(String owner) {
+        Set<BasicDataOperationUsingMap.Pet> ownerPets = petsByOwner.get(owner);
+        return ownerPets == null ? Collections.emptySet() : Collections.unmodifiableSet(ownerPets);
+    }
+
+    /**
+     * Видаляє всіх тварин заданого власника.
+     * 
+     * @param owner Ім'я власника
+     * @return Множина видалених тварин (порожня, якщо власника немає)
+     */
+    public Set<BasicDataOperationUsingMap.Pet> removeByOwner(String owner) {
+        Set<BasicDataOperationUsingMap.Pet> ownerPets = petsByOwner.remove(owner);
+        if (ownerPets == null) {
+            return Collections.emptySet();
+        }
+        for (BasicDataOperationUsingMap.Pet pet : ownerPets) {
+            pets.remove(pet);
+        }
+        version = nextVersion();
+        return ownerPets;
+    }
+}
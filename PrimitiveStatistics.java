@@ -0,0 +1,547 @@
+import java.util.Arrays;
+
+/**
+ * Клас PrimitiveStatistics - підсумкова статистика масиву примітивів, обчислена за один прохід.
+ * 
+ * <p>Для кожного масиву визначаються кількість, найменше та найбільше значення, сума,
+ * середнє, дисперсія генеральної сукупності та гістограма:</p>
+ * <ul>
+ *   <li>byte, short - точна гістограма за кожним значенням (256 або 65536 кошиків); решта
+ *       статистики обчислюється з гістограми, тож дані переглядаються лише один раз;</li>
+ *   <li>int, long - кошики за знаком і порядком величини (кількістю значущих бітів);</li>
+ *   <li>float, double - кошики за знаком і двійковим порядком.</li>
+ * </ul>
+ * 
+ * <p>Для широких типів прохід ведеться двома незалежними наборами акумуляторів (парні та
+ * непарні позиції), щоб операції min/max/sum не чекали одна на одну. Дисперсія рахується
+ * за сумами відхилень від першого значення, що зменшує втрату точності для даних
+ * з великим зсувом. Як і в {@link java.util.DoubleSummaryStatistics}, NaN у даних
+ * робить NaN найменше, найбільше значення та середнє.</p>
+ */
+public final class PrimitiveStatistics {
+    private static final int BYTE_BUCKETS = 1 << Byte.SIZE;
+    private static final int SHORT_BUCKETS = 1 << Short.SIZE;
+    private static final int MAGNITUDE_BUCKETS = 2 * Long.SIZE;
+    private static final int EXPONENT_BUCKETS = 2 * (1 << 11);
+    private static final int DOUBLE_EXPONENT_BIAS = 1023;
+
+    /**
+     * Спосіб розбиття значень на кошики гістограми.
+     */
+    enum HistogramScale {
+        BYTE_VALUE,
+        SHORT_VALUE,
+        MAGNITUDE,
+        EXPONENT
+    }
+
+    private final long count;
+    private final boolean integral;
+    private final long longMin;
+    private final long longMax;
+    private final double doubleMin;
+    private final double doubleMax;
+    private final double sum;
+    private final double variance;
+    private final HistogramScale scale;
+    private final long[] histogram;
+
+    private PrimitiveStatistics(long count, boolean integral, long longMin, long longMax, double doubleMin,
+            double doubleMax, double sum, double variance, HistogramScale scale, long[] histogram) {
+        this.count = count;
+        this.integral = integral;
+        this.longMin = longMin;
+        this.longMax = longMax;
+        this.doubleMin = doubleMin;
+        this.doubleMax = doubleMax;
+        this.sum = sum;
+        this.variance = variance;
+        this.scale = scale;
+        this.histogram = histogram;
+    }
+
+    private static PrimitiveStatistics ofIntegral(long count, long min, long max, double sum, double variance,
+            HistogramScale scale, long[] histogram) {
+        return new PrimitiveStatistics(count, true, min, max, min, max, sum, variance, scale, histogram);
+    }
+
+    private static PrimitiveStatistics ofFloating(long count, double min, double max, double sum, double variance,
+            long[] histogram) {
+        return new PrimitiveStatistics(count, false, 0, 0, min, max, sum, variance, HistogramScale.EXPONENT, histogram);
+    }
+
+    /**
+     * Дисперсія генеральної сукупності за сумою та сумою квадратів відхилень від зсуву.
+     */
+    private static double shiftedVariance(long count, double shiftedSum, double shiftedSquares) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        // квадрати відхилень понад діапазон double: дисперсія не представлена скінченним числом
+        if (shiftedSquares == Double.POSITIVE_INFINITY) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double variance = (shiftedSquares - shiftedSum * shiftedSum / count) / count;
+        return Math.max(0.0, variance);
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new ArrayIndexOutOfBoundsException("Невірний діапазон [" + from + ", " + to + ") для масиву довжиною " + length);
+        }
+    }
+
+    // ===== byte, short: точна гістограма =====
+
+    public static PrimitiveStatistics of(byte[] values) {
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * Обчислює статистику діапазону масиву byte.
+     * 
+     * @param values Масив значень
+     * @param from Початок діапазону (включно)
+     * @param to Кінець діапазону (не включно)
+     * @return Статистика діапазону
+     */
+    public static PrimitiveStatistics of(byte[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long[] histogram = new long[BYTE_BUCKETS];
+        for (int i = from; i < to; i++) {
+            histogram[values[i] - Byte.MIN_VALUE]++;
+        }
+        return fromValueHistogram(histogram, Byte.MIN_VALUE, HistogramScale.BYTE_VALUE);
+    }
+
+    public static PrimitiveStatistics of(short[] values) {
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * Обчислює статистику діапазону масиву short.
+     * 
+     * @param values Масив значень
+     * @param from Початок діапазону (включно)
+     * @param to Кінець діапазону (не включно)
+     * @return Статистика діапазону
+     */
+    public static PrimitiveStatistics of(short[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long[] histogram = new long[SHORT_BUCKETS];
+        for (int i = from; i < to; i++) {
+            histogram[values[i] - Short.MIN_VALUE]++;
+        }
+        return fromValueHistogram(histogram, Short.MIN_VALUE, HistogramScale.SHORT_VALUE);
+    }
+
+    /**
+     * Обчислює статистику з точної гістограми, не звертаючись повторно до даних.
+     */
+    private static PrimitiveStatistics fromValueHistogram(long[] histogram, int minValue, HistogramScale scale) {
+        long count = 0;
+        long sum = 0;
+        int first = -1;
+        int last = -1;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            long bucketCount = histogram[bucket];
+            if (bucketCount != 0) {
+                if (first < 0) {
+                    first = bucket;
+                }
+                last = bucket;
+                count += bucketCount;
+                sum += bucketCount * (bucket + minValue);
+            }
+        }
+        if (count == 0) {
+            return ofIntegral(0, 0, 0, 0, Double.NaN, scale, histogram);
+        }
+
+        double mean = (double) sum / count;
+        double squares = 0;
+        for (int bucket = first; bucket <= last; bucket++) {
+            double deviation = bucket + minValue - mean;
+            squares += histogram[bucket] * deviation * deviation;
+        }
+        return ofIntegral(count, first + minValue, last + minValue, sum, squares / count, scale, histogram);
+    }
+
+    // ===== int, long: кошики за порядком величини =====
+
+    /**
+     * Номер кошика за знаком і кількістю значущих бітів; кошики впорядковані за зростанням значень.
+     */
+    static int magnitudeBucket(long value) {
+        return value >= 0
+                ? Long.SIZE + (Long.SIZE - Long.numberOfLeadingZeros(value))
+                : Long.SIZE - 1 - (Long.SIZE - Long.numberOfLeadingZeros(~value));
+    }
+
+    public static PrimitiveStatistics of(int[] values) {
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * Обчислює статистику діапазону масиву int.
+     * 
+     * @param values Масив значень
+     * @param from Початок діапазону (включно)
+     * @param to Кінець діапазону (не включно)
+     * @return Статистика діапазону
+     */
+    public static PrimitiveStatistics of(int[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long[] histogram = new long[MAGNITUDE_BUCKETS];
+        int count = to - from;
+        if (count == 0) {
+            return ofIntegral(0, 0, 0, 0, Double.NaN, HistogramScale.MAGNITUDE, histogram);
+        }
+
+        long shift = values[from];
+        int min0 = values[from], min1 = min0;
+        int max0 = min0, max1 = min0;
+        long sum0 = 0, sum1 = 0;
+        double squares0 = 0, squares1 = 0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            int value0 = values[i];
+            int value1 = values[i + 1];
+            min0 = Math.min(min0, value0);
+            min1 = Math.min(min1, value1);
+            max0 = Math.max(max0, value0);
+            max1 = Math.max(max1, value1);
+            sum0 += value0;
+            sum1 += value1;
+            double deviation0 = value0 - shift;
+            double deviation1 = value1 - shift;
+            squares0 += deviation0 * deviation0;
+            squares1 += deviation1 * deviation1;
+            histogram[magnitudeBucket(value0)]++;
+            histogram[magnitudeBucket(value1)]++;
+        }
+        if (i < to) {
+            int value = values[i];
+            min0 = Math.min(min0, value);
+            max0 = Math.max(max0, value);
+            sum0 += value;
+            double deviation = value - shift;
+            squares0 += deviation * deviation;
+            histogram[magnitudeBucket(value)]++;
+        }
+
+        // для int сума поміщається в long без переповнення
+        long sum = sum0 + sum1;
+        double variance = shiftedVariance(count, sum - shift * count, squares0 + squares1);
+        return ofIntegral(count, Math.min(min0, min1), Math.max(max0, max1), sum, variance,
+                HistogramScale.MAGNITUDE, histogram);
+    }
+
+    public static PrimitiveStatistics of(long[] values) {
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * Обчислює статистику діапазону масиву long. Сума накопичується в double,
+     * оскільки сума значень long може перевищити діапазон long.
+     * 
+     * @param values Масив значень
+     * @param from Початок діапазону (включно)
+     * @param to Кінець діапазону (не включно)
+     * @return Статистика діапазону
+     */
+    public static PrimitiveStatistics of(long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long[] histogram = new long[MAGNITUDE_BUCKETS];
+        int count = to - from;
+        if (count == 0) {
+            return ofIntegral(0, 0, 0, 0, Double.NaN, HistogramScale.MAGNITUDE, histogram);
+        }
+
+        double shift = values[from];
+        long min0 = values[from], min1 = min0;
+        long max0 = min0, max1 = min0;
+        double shiftedSum0 = 0, shiftedSum1 = 0;
+        double squares0 = 0, squares1 = 0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            long value0 = values[i];
+            long value1 = values[i + 1];
+            min0 = Math.min(min0, value0);
+            min1 = Math.min(min1, value1);
+            max0 = Math.max(max0, value0);
+            max1 = Math.max(max1, value1);
+            double deviation0 = value0 - shift;
+            double deviation1 = value1 - shift;
+            shiftedSum0 += deviation0;
+            shiftedSum1 += deviation1;
+            squares0 += deviation0 * deviation0;
+            squares1 += deviation1 * deviation1;
+            histogram[magnitudeBucket(value0)]++;
+            histogram[magnitudeBucket(value1)]++;
+        }
+        if (i < to) {
+            long value = values[i];
+            min0 = Math.min(min0, value);
+            max0 = Math.max(max0, value);
+            double deviation = value - shift;
+            shiftedSum0 += deviation;
+            squares0 += deviation * deviation;
+            histogram[magnitudeBucket(value)]++;
+        }
+
+        double shiftedSum = shiftedSum0 + shiftedSum1;
+        return ofIntegral(count, Math.min(min0, min1), Math.max(max0, max1), shift * count + shiftedSum,
+                shiftedVariance(count, shiftedSum, squares0 + squares1), HistogramScale.MAGNITUDE, histogram);
+    }
+
+    // ===== float, double: кошики за двійковим порядком =====
+
+    /**
+     * Номер кошика за знаком і двійковим порядком; кошики впорядковані за зростанням значень.
+     * Нулі та субнормальні числа потрапляють до кошиків з порядком 0, нескінченності та NaN - 2047.
+     */
+    static int exponentBucket(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        int exponent = (int) (bits >>> 52) & 0x7FF;
+        return bits < 0 ? EXPONENT_BUCKETS / 2 - 1 - exponent : EXPONENT_BUCKETS / 2 + exponent;
+    }
+
+    public static PrimitiveStatistics of(float[] values) {
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * Обчислює статистику діапазону масиву float; накопичення ведеться в double.
+     * 
+     * @param values Масив значень
+     * @param from Початок діапазону (включно)
+     * @param to Кінець діапазону (не включно)
+     * @return Статистика діапазону
+     */
+    public static PrimitiveStatistics of(float[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long[] histogram = new long[EXPONENT_BUCKETS];
+        int count = to - from;
+        if (count == 0) {
+            return ofFloating(0, Double.NaN, Double.NaN, 0, Double.NaN, histogram);
+        }
+
+        double shift = values[from];
+        double min0 = shift, min1 = shift;
+        double max0 = shift, max1 = shift;
+        double shiftedSum0 = 0, shiftedSum1 = 0;
+        double squares0 = 0, squares1 = 0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            double value0 = values[i];
+            double value1 = values[i + 1];
+            min0 = Math.min(min0, value0);
+            min1 = Math.min(min1, value1);
+            max0 = Math.max(max0, value0);
+            max1 = Math.max(max1, value1);
+            double deviation0 = value0 - shift;
+            double deviation1 = value1 - shift;
+            shiftedSum0 += deviation0;
+            shiftedSum1 += deviation1;
+            squares0 += deviation0 * deviation0;
+            squares1 += deviation1 * deviation1;
+            histogram[exponentBucket(value0)]++;
+            histogram[exponentBucket(value1)]++;
+        }
+        if (i < to) {
+            double value = values[i];
+            min0 = Math.min(min0, value);
+            max0 = Math.max(max0, value);
+            double deviation = value - shift;
+            shiftedSum0 += deviation;
+            squares0 += deviation * deviation;
+            histogram[exponentBucket(value)]++;
+        }
+
+        double shiftedSum = shiftedSum0 + shiftedSum1;
+        return ofFloating(count, Math.min(min0, min1), Math.max(max0, max1), shift * count + shiftedSum,
+                shiftedVariance(count, shiftedSum, squares0 + squares1), histogram);
+    }
+
+    public static PrimitiveStatistics of(double[] values) {
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * Обчислює статистику діапазону масиву double.
+     * 
+     * @param values Масив значень
+     * @param from Початок діапазону (включно)
+     * @param to Кінець діапазону (не включно)
+     * @return Статистика діапазону
+     */
+    public static PrimitiveStatistics of(double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        long[] histogram = new long[EXPONENT_BUCKETS];
+        int count = to - from;
+        if (count == 0) {
+            return ofFloating(0, Double.NaN, Double.NaN, 0, Double.NaN, histogram);
+        }
+
+        double shift = values[from];
+        double min0 = shift, min1 = shift;
+        double max0 = shift, max1 = shift;
+        double shiftedSum0 = 0, shiftedSum1 = 0;
+        double squares0 = 0, squares1 = 0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            double value0 = values[i];
+            double value1 = values[i + 1];
+            min0 = Math.min(min0, value0);
+            min1 = Math.min(min1, value1);
+            max0 = Math.max(max0, value0);
+            max1 = Math.max(max1, value1);
+            double deviation0 = value0 - shift;
+            double deviation1 = value1 - shift;
+            shiftedSum0 += deviation0;
+            shiftedSum1 += deviation1;
+            squares0 += deviation0 * deviation0;
+            squares1 += deviation1 * deviation1;
+            histogram[exponentBucket(value0)]++;
+            histogram[exponentBucket(value1)]++;
+        }
+        if (i < to) {
+            double value = values[i];
+            min0 = Math.min(min0, value);
+            max0 = Math.max(max0, value);
+            double deviation = value - shift;
+            shiftedSum0 += deviation;
+            squares0 += deviation * deviation;
+            histogram[exponentBucket(value)]++;
+        }
+
+        double shiftedSum = shiftedSum0 + shiftedSum1;
+        return ofFloating(count, Math.min(min0, min1), Math.max(max0, max1), shift * count + shiftedSum,
+                shiftedVariance(count, shiftedSum, squares0 + squares1), histogram);
+    }
+
+    // ===== Результати =====
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Повертає найменше значення цілого типу. Для float і double використовуйте {@link #getDoubleMin()}.
+     */
+    public long getLongMin() {
+        return longMin;
+    }
+
+    /**
+     * Повертає найбільше значення цілого типу. Для float і double використовуйте {@link #getDoubleMax()}.
+     */
+    public long getLongMax() {
+        return longMax;
+    }
+
+    public double getDoubleMin() {
+        return doubleMin;
+    }
+
+    public double getDoubleMax() {
+        return doubleMax;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /**
+     * Повертає дисперсію генеральної сукупності (ділення на кількість значень).
+     */
+    public double getVariance() {
+        return variance;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(variance);
+    }
+
+    HistogramScale getHistogramScale() {
+        return scale;
+    }
+
+    /**
+     * Повертає копію лічильників гістограми; межі кошиків дає {@link #bucketLabel(int)}.
+     */
+    public long[] getHistogram() {
+        return Arrays.copyOf(histogram, histogram.length);
+    }
+
+    /**
+     * Повертає текстовий опис меж кошика гістограми.
+     * 
+     * @param bucket Номер кошика
+     * @return Значення кошика або діапазон [нижня межа, верхня межа]
+     */
+    public String bucketLabel(int bucket) {
+        switch (scale) {
+            case BYTE_VALUE: return Integer.toString(bucket + Byte.MIN_VALUE);
+            case SHORT_VALUE: return Integer.toString(bucket + Short.MIN_VALUE);
+            case MAGNITUDE: {
+                int bits = bucket >= Long.SIZE ? bucket - Long.SIZE : Long.SIZE - 1 - bucket;
+                long lower = bits == 0 ? 0 : 1L << (bits - 1);
+                long upper = bits == Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bits) - 1;
+                return bucket >= Long.SIZE
+                        ? "[" + lower + ", " + upper + "]"
+                        : "[" + (-upper - 1) + ", " + (-lower - 1) + "]";
+            }
+            case EXPONENT: {
+                boolean negative = bucket < EXPONENT_BUCKETS / 2;
+                int exponent = negative ? EXPONENT_BUCKETS / 2 - 1 - bucket : bucket - EXPONENT_BUCKETS / 2;
+                String sign = negative ? "-" : "";
+                if (exponent == 0) {
+                    return sign + "[0, " + Double.MIN_NORMAL + ")";
+                }
+                if (exponent == 0x7FF) {
+                    return sign + "Infinity/NaN";
+                }
+                return sign + "[2^" + (exponent - DOUBLE_EXPONENT_BIAS) + ", 2^" + (exponent - DOUBLE_EXPONENT_BIAS + 1) + ")";
+            }
+            default: throw new IllegalStateException("Невідома шкала " + scale);
+        }
+    }
+
+    /**
+     * Виводить статистику та непорожні кошики гістограми.
+     * 
+     * @param maxBuckets Найбільша кількість кошиків для виведення
+     */
+    public void print(int maxBuckets) {
+        System.out.println("Кількість: " + count);
+        if (integral) {
+            System.out.println("Найменше: " + longMin + ", найбільше: " + longMax);
+        } else {
+            System.out.println("Найменше: " + doubleMin + ", найбільше: " + doubleMax);
+        }
+        System.out.println(String.format("Сума: %s, середнє: %s, дисперсія: %s, стандартне відхилення: %s",
+                sum, getMean(), variance, getStandardDeviation()));
+
+        System.out.println("Гістограма:");
+        int printed = 0;
+        int nonEmpty = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            if (histogram[bucket] != 0) {
+                nonEmpty++;
+                if (printed < maxBuckets) {
+                    System.out.println(String.format("  %-40s %d", bucketLabel(bucket), histogram[bucket]));
+                    printed++;
+                }
+            }
+        }
+        if (nonEmpty > printed) {
+            System.out.println("  ... ще " + (nonEmpty - printed) + " непорожніх кошиків");
+        }
+    }
+}
@@ -0,0 +1,292 @@
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Клас QueryResultCache зберігає результати операцій пошуку обробників з обмеженням розміру.
+ * 
+ * <p>Ключ результату складається з джерела даних, версії даних, назви операції та аргументу.
+ * Для масивів byte версією є відбиток гістограми {@link ByteIndex#fingerprint()}, тож зміна
+ * вмісту файлу даних автоматично дає нові ключі. Для Map версією є
+ * {@link PetRegistry#version()}, що змінюється після кожної зміни реєстру: після
+ * {@code addEntry*} чи {@code removeBy*} пошук іде за новими ключами, а результати
+ * старих версій більше не запитуються і витісняються.</p>
+ * 
+ * <p>Обчислення результату виконується поза монітором кешу, тож повільний запит не
+ * блокує інші потоки; якщо два потоки одночасно обчислили той самий ключ, у кеші
+ * залишається перший збережений результат.</p>
+ * 
+ * <p>Витіснення за політикою LRU (найдавніше використаний) або LFU (найрідше
+ * використаний, серед рівних - найдавніше доданий). Кількість влучань, промахів
+ * та витіснень рахується лічильниками {@link PerformanceTracker}.</p>
+ * 
+ * <p>Кеш вимкнено, доки його не увімкнено через {@link #configure}; без нього операції
+ * виконуються напряму. Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java BasicDataOperation 126 --runs 100 --cache lru --cache-size 256
+ * java BasicDataOperation 126 map --runs 100 --cache lfu
+ * }
+ * </pre>
+ */
+public final class QueryResultCache {
+    static final int DEFAULT_CAPACITY = 1_024;
+
+    static final String HITS_COUNTER = "кеш результатів: влучання";
+    static final String MISSES_COUNTER = "кеш результатів: промахи";
+    static final String EVICTIONS_COUNTER = "кеш результатів: витіснення";
+
+    // результат null зберігається як окреме значення, щоб відрізнити його від відсутності в кеші
+    private static final Object NULL_RESULT = new Object();
+
+    private static volatile QueryResultCache active;
+
+    /**
+     * Політика витіснення.
+     */
+    public enum EvictionPolicy {
+        LRU,
+        LFU;
+
+        /**
+         * @param name Назва політики без урахування регістру
+         * @return Політика витіснення
+         * @throws IllegalArgumentException якщо назва невідома
+         */
+        public static EvictionPolicy fromName(String name) {
+            for (EvictionPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(name)) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException("Невідома політика кешу " + name + " (очікується lru або lfu)");
+        }
+    }
+
+    /**
+     * Ключ результату: джерело, версія даних, операція та аргумент.
+     */
+    public static final class Key {
+        private final String source;
+        private final long version;
+        private final String operation;
+        private final Object argument;
+
+        public Key(String source, long version, String operation, Object argument) {
+            this.source = source;
+            this.version = version;
+            this.operation = operation;
+            this.argument = argument;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return version == other.version && source.equals(other.source)
+                    && operation.equals(other.operation) && Objects.equals(argument, other.argument);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((source.hashCode() * 31 + Long.hashCode(version)) * 31 + operation.hashCode()) * 31
+                    + Objects.hashCode(argument);
+        }
+
+        @Override
+        public String toString() {
+            return source + "@" + version + ":" + operation + "(" + argument + ")";
+        }
+    }
+
+    private final EvictionPolicy policy;
+    private final int capacity;
+
+    // LRU: порядок доступу LinkedHashMap, найдавніший запис - перший
+    private final LinkedHashMap<Key, Object> recentEntries;
+
+    // LFU: значення та частоти, а для кожної частоти - ключі в порядку додавання
+    private final Map<Key, Object> frequentValues;
+    private final Map<Key, Integer> frequencies;
+    private final Map<Integer, LinkedHashSet<Key>> keysByFrequency;
+    private int minFrequency;
+
+    /**
+     * Створює кеш з заданою політикою та місткістю.
+     * 
+     * @param policy Політика витіснення
+     * @param capacity Найбільша кількість результатів
+     * @throws IllegalArgumentException якщо місткість не додатна
+     */
+    public QueryResultCache(EvictionPolicy policy, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Розмір кешу має бути додатним");
+        }
+        this.policy = policy;
+        this.capacity = capacity;
+        if (policy == EvictionPolicy.LRU) {
+            this.recentEntries = new LinkedHashMap<>(16, 0.75f, true);
+            this.frequentValues = null;
+            this.frequencies = null;
+            this.keysByFrequency = null;
+        } else {
+            this.recentEntries = null;
+            this.frequentValues = new HashMap<>();
+            this.frequencies = new HashMap<>();
+            this.keysByFrequency = new HashMap<>();
+        }
+    }
+
+    /**
+     * Вмикає спільний кеш результатів для всіх обробників.
+     * 
+     * @param policy Політика витіснення
+     * @param capacity Найбільша кількість результатів
+     */
+    public static void configure(EvictionPolicy policy, int capacity) {
+        active = new QueryResultCache(policy, capacity);
+    }
+
+    /**
+     * Вимикає спільний кеш результатів.
+     */
+    public static void disable() {
+        active = null;
+    }
+
+    /**
+     * Повертає спільний кеш або null, якщо його вимкнено.
+     */
+    public static QueryResultCache active() {
+        return active;
+    }
+
+    /**
+     * Повертає результат зі спільного кешу або обчислює і зберігає його.
+     * Якщо кеш вимкнено, результат обчислюється напряму.
+     * 
+     * @param key Ключ результату
+     * @param loader Обчислення результату
+     * @return Результат операції
+     */
+    public static <T> T lookup(Key key, Supplier<T> loader) {
+        QueryResultCache cache = active;
+        return cache == null ? loader.get() : cache.get(key, loader);
+    }
+
+    /**
+     * Повертає результат з кешу або обчислює і зберігає його.
+     * 
+     * @param key Ключ результату
+     * @param loader Обчислення результату
+     * @return Результат операції
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader) {
+        Object cached;
+        synchronized (this) {
+            cached = policy == EvictionPolicy.LRU ? recentEntries.get(key) : getFrequent(key);
+        }
+        if (cached != null) {
+            PerformanceTracker.incrementCounter(HITS_COUNTER);
+            return cached == NULL_RESULT ? null : (T) cached;
+        }
+
+        PerformanceTracker.incrementCounter(MISSES_COUNTER);
+        T result = loader.get();
+        Object stored = result == null ? NULL_RESULT : result;
+        synchronized (this) {
+            if (policy == EvictionPolicy.LRU) {
+                if (recentEntries.putIfAbsent(key, stored) == null && recentEntries.size() > capacity) {
+                    Iterator<Key> eldest = recentEntries.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    PerformanceTracker.incrementCounter(EVICTIONS_COUNTER);
+                }
+            } else if (!frequentValues.containsKey(key)) {
+                putFrequent(key, stored);
+            }
+        }
+        return result;
+    }
+
+    private Object getFrequent(Key key) {
+        Object value = frequentValues.get(key);
+        if (value != null) {
+            int frequency = frequencies.get(key);
+            LinkedHashSet<Key> keys = keysByFrequency.get(frequency);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByFrequency.remove(frequency);
+                if (minFrequency == frequency) {
+                    minFrequency = frequency + 1;
+                }
+            }
+            frequencies.put(key, frequency + 1);
+            keysByFrequency.computeIfAbsent(frequency + 1, f -> new LinkedHashSet<>()).add(key);
+        }
+        return value;
+    }
+
+    private void putFrequent(Key key, Object value) {
+        if (frequentValues.size() >= capacity) {
+            LinkedHashSet<Key> keys = keysByFrequency.get(minFrequency);
+            Key evicted = keys.iterator().next();
+            removeFrequent(evicted);
+            PerformanceTracker.incrementCounter(EVICTIONS_COUNTER);
+        }
+        frequentValues.put(key, value);
+        frequencies.put(key, 1);
+        keysByFrequency.computeIfAbsent(1, f -> new LinkedHashSet<>()).add(key);
+        minFrequency = 1;
+    }
+
+    private boolean removeFrequent(Key key) {
+        if (frequentValues.remove(key) == null) {
+            return false;
+        }
+        int frequency = frequencies.remove(key);
+        LinkedHashSet<Key> keys = keysByFrequency.get(frequency);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            keysByFrequency.remove(frequency);
+            // мінімальна частота уточнюється під час наступного витіснення
+            if (minFrequency == frequency && !frequentValues.isEmpty()) {
+                minFrequency = keysByFrequency.keySet().stream().min(Integer::compare).orElse(1);
+            }
+        }
+        return true;
+    }
+
+    public synchronized int size() {
+        return policy == EvictionPolicy.LRU ? recentEntries.size() : frequentValues.size();
+    }
+
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Виводить частку влучань та кількість витіснень.
+     */
+    public void printReport() {
+        long hits = PerformanceTracker.getCounter(HITS_COUNTER);
+        long misses = PerformanceTracker.getCounter(MISSES_COUNTER);
+        System.out.println(String.format("Кеш результатів %s (%d/%d): влучань %d, промахів %d (%.1f%% влучань), витіснень %d",
+                policy, size(), capacity, hits, misses, hits + misses == 0 ? 0.0 : 100.0 * hits / (hits + misses),
+                PerformanceTracker.getCounter(EVICTIONS_COUNTER)));
+    }
+}
@@ -0,0 +1,308 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.zip.CRC32C;
+
+/**
+ * Клас SortedIndexCache зберігає побудований індекс файлу даних byte між запусками.
+ * 
+ * <p>Поруч із файлом даних створюється двійковий файл {@code <файл>.idx}:</p>
+ * <pre>
+ * [магічне число][версія][розмір джерела][mtime джерела][CRC32C джерела]
+ * [розмір .sorted][mtime .sorted][кількість значень][min][max]
+ * [гістограма: 256 x int][значення у вихідному порядку][значення за зростанням]
+ * </pre>
+ * 
+ * <p>Кеш дійсний, якщо розмір, час зміни та контрольна сума файлу даних збігаються із
+ * записаними. Тоді файл кешу відображається в пам'ять, а індекс відновлюється з гістограми
+ * без розбору тексту та сортування. Файл {@code <файл>.sorted} записується разом із кешем,
+ * а його розмір і час зміни також зберігаються в заголовку: якщо вони збігаються, обробникам
+ * не потрібно перезаписувати відсортований файл ({@link #isSortedFileCurrent(String)}).</p>
+ */
+public final class SortedIndexCache {
+    static final String INDEX_SUFFIX = ".idx";
+    static final String SORTED_SUFFIX = ".sorted";
+
+    private static final int MAGIC = 0x42494458;
+    private static final int VERSION = 1;
+    private static final int VALUE_RANGE = 256;
+    private static final int SOURCE_SIZE_OFFSET = 8;
+    private static final int SOURCE_MTIME_OFFSET = 16;
+    private static final int SOURCE_CHECKSUM_OFFSET = 24;
+    private static final int SORTED_SIZE_OFFSET = 32;
+    private static final int SORTED_MTIME_OFFSET = 40;
+    private static final int VALUE_COUNT_OFFSET = 48;
+    private static final int MIN_OFFSET = 52;
+    private static final int MAX_OFFSET = 53;
+    private static final int HEADER_SIZE = 56;
+    private static final int COUNTS_OFFSET = HEADER_SIZE;
+    private static final int VALUES_OFFSET = COUNTS_OFFSET + VALUE_RANGE * Integer.BYTES;
+
+    private final ByteIndex byteIndex;
+    private final ByteBuffer values;
+    private final ByteBuffer sortedValues;
+    private final boolean rebuilt;
+
+    private SortedIndexCache(ByteIndex byteIndex, ByteBuffer values, ByteBuffer sortedValues, boolean rebuilt) {
+        this.byteIndex = byteIndex;
+        this.values = values;
+        this.sortedValues = sortedValues;
+        this.rebuilt = rebuilt;
+    }
+
+    /**
+     * Завантажує індекс з кешу, якщо файл даних не змінився, інакше будує його заново
+     * та оновлює кеш і файл {@code .sorted}.
+     * 
+     * <p>Якщо кеш не вдалося записати (наприклад, каталог лише для читання), повертається
+     * індекс, побудований у пам'яті.</p>
+     * 
+     * @param dataPath Шлях до файлу даних
+     * @return Індекс з даними файлу
+     */
+    public static SortedIndexCache loadOrBuild(String dataPath) {
+        Path sourcePath = Paths.get(dataPath);
+        Path indexPath = Paths.get(dataPath + INDEX_SUFFIX);
+        Path sortedPath = Paths.get(dataPath + SORTED_SUFFIX);
+
+        try {
+            BasicFileAttributes sourceAttributes = Files.readAttributes(sourcePath, BasicFileAttributes.class);
+            SortedIndexCache cached = tryLoad(indexPath, sortedPath, sourcePath, sourceAttributes);
+            if (cached != null) {
+                return cached;
+            }
+            return build(sourcePath, indexPath, sortedPath, sourceAttributes);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+            byte[] primitiveArray = DataFileHandler.loadPrimitiveArrayFromFile(dataPath);
+            return fromArray(primitiveArray, new ByteIndex(primitiveArray));
+        }
+    }
+
+    /**
+     * Перевіряє, чи файл {@code .sorted} відповідає поточному файлу даних за записами кешу.
+     * 
+     * <p>Порівнюються лише розміри та час зміни; контрольна сума джерела перевіряється під час
+     * {@link #loadOrBuild(String)}, тому перевірка коштує одного читання заголовка.</p>
+     * 
+     * @param dataPath Шлях до файлу даних
+     * @return true, якщо перезаписувати відсортований файл не потрібно
+     */
+    public static boolean isSortedFileCurrent(String dataPath) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(Paths.get(dataPath + INDEX_SUFFIX), StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // читаємо заголовок повністю
+            }
+            if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                return false;
+            }
+            BasicFileAttributes source = Files.readAttributes(Paths.get(dataPath), BasicFileAttributes.class);
+            BasicFileAttributes sorted = Files.readAttributes(Paths.get(dataPath + SORTED_SUFFIX), BasicFileAttributes.class);
+            return header.getLong(SOURCE_SIZE_OFFSET) == source.size()
+                    && header.getLong(SOURCE_MTIME_OFFSET) == source.lastModifiedTime().toMillis()
+                    && header.getLong(SORTED_SIZE_OFFSET) == sorted.size()
+                    && header.getLong(SORTED_MTIME_OFFSET) == sorted.lastModifiedTime().toMillis();
+        } catch (IOException ioException) {
+            return false;
+        }
+    }
+
+    private static SortedIndexCache tryLoad(Path indexPath, Path sortedPath, Path sourcePath,
+            BasicFileAttributes sourceAttributes) throws IOException {
+        MappedByteBuffer header;
+        ByteBuffer values;
+        ByteBuffer sortedValues;
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            if (channel.size() < VALUES_OFFSET) {
+                return null;
+            }
+            header = channel.map(FileChannel.MapMode.READ_ONLY, 0, VALUES_OFFSET);
+            int valueCount = header.getInt(VALUE_COUNT_OFFSET);
+            if (valueCount < 0 || channel.size() != VALUES_OFFSET + 2L * valueCount) {
+                return null;
+            }
+            // кожен розділ відображається окремим вікном, тож файл кешу може перевищувати 2 ГіБ
+            values = channel.map(FileChannel.MapMode.READ_ONLY, VALUES_OFFSET, valueCount).asReadOnlyBuffer();
+            sortedValues = channel.map(FileChannel.MapMode.READ_ONLY, VALUES_OFFSET + (long) valueCount, valueCount)
+                    .asReadOnlyBuffer();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        int valueCount = values.capacity();
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                || header.getLong(SOURCE_SIZE_OFFSET) != sourceAttributes.size()
+                || header.getLong(SOURCE_MTIME_OFFSET) != sourceAttributes.lastModifiedTime().toMillis()
+                || header.getLong(SOURCE_CHECKSUM_OFFSET) != checksum(sourcePath)) {
+            return null;
+        }
+
+        int[] counts = new int[VALUE_RANGE];
+        IntBuffer countBuffer = header.slice(COUNTS_OFFSET, VALUE_RANGE * Integer.BYTES).asIntBuffer();
+        countBuffer.get(counts);
+        ByteIndex byteIndex;
+        try {
+            byteIndex = new ByteIndex(counts);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (byteIndex.size() != valueCount) {
+            return null;
+        }
+
+        SortedIndexCache cache = new SortedIndexCache(byteIndex, values, sortedValues, false);
+
+        // відсортований файл видалено або змінено - відновлюємо його з кешу без сортування
+        if (!isSortedFileCurrent(sourcePath.toString())) {
+            byte[] sorted = new byte[valueCount];
+            sortedValues.duplicate().get(sorted);
+            DataFileHandler.writeArrayToFile(sorted, sortedPath.toString());
+            updateSortedKey(indexPath, sortedPath);
+        }
+        return cache;
+    }
+
+    private static SortedIndexCache build(Path sourcePath, Path indexPath, Path sortedPath,
+            BasicFileAttributes sourceAttributes) throws IOException {
+        long sourceChecksum = checksum(sourcePath);
+        byte[] primitiveArray = DataFileHandler.loadPrimitiveArrayFromFile(sourcePath.toString());
+        ByteIndex byteIndex = new ByteIndex(primitiveArray);
+        byte[] sorted = new byte[primitiveArray.length];
+        byteIndex.sortInto(sorted);
+
+        DataFileHandler.writeArrayToFile(sorted, sortedPath.toString());
+
+        // у пам'яті будується лише заголовок із гістограмою; розділи значень записуються
+        // в канал напряму з уже наявних масивів без повної копії файлу кешу
+        ByteBuffer header = ByteBuffer.allocate(VALUES_OFFSET);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putLong(SOURCE_SIZE_OFFSET, sourceAttributes.size());
+        header.putLong(SOURCE_MTIME_OFFSET, sourceAttributes.lastModifiedTime().toMillis());
+        header.putLong(SOURCE_CHECKSUM_OFFSET, sourceChecksum);
+        header.putInt(VALUE_COUNT_OFFSET, primitiveArray.length);
+        header.put(MIN_OFFSET, byteIndex.isEmpty() ? 0 : byteIndex.min());
+        header.put(MAX_OFFSET, byteIndex.isEmpty() ? 0 : byteIndex.max());
+        for (int i = 0; i < VALUE_RANGE; i++) {
+            header.putInt(COUNTS_OFFSET + i * Integer.BYTES, byteIndex.count((byte) (i + Byte.MIN_VALUE)));
+        }
+        if (Files.exists(sortedPath)) {
+            BasicFileAttributes sortedAttributes = Files.readAttributes(sortedPath, BasicFileAttributes.class);
+            header.putLong(SORTED_SIZE_OFFSET, sortedAttributes.size());
+            header.putLong(SORTED_MTIME_OFFSET, sortedAttributes.lastModifiedTime().toMillis());
+        }
+
+        try {
+            DataFileHandler.writeAtomically(indexPath, output -> {
+                WritableByteChannel channel = Channels.newChannel(output);
+                for (ByteBuffer section : new ByteBuffer[] {header, ByteBuffer.wrap(primitiveArray), ByteBuffer.wrap(sorted)}) {
+                    while (section.hasRemaining()) {
+                        channel.write(section);
+                    }
+                }
+            });
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+        return fromArray(primitiveArray, byteIndex, sorted);
+    }
+
+    private static SortedIndexCache fromArray(byte[] primitiveArray, ByteIndex byteIndex) {
+        byte[] sorted = new byte[primitiveArray.length];
+        byteIndex.sortInto(sorted);
+        return fromArray(primitiveArray, byteIndex, sorted);
+    }
+
+    private static SortedIndexCache fromArray(byte[] primitiveArray, ByteIndex byteIndex, byte[] sorted) {
+        return new SortedIndexCache(byteIndex, ByteBuffer.wrap(primitiveArray).asReadOnlyBuffer(),
+                ByteBuffer.wrap(sorted).asReadOnlyBuffer(), true);
+    }
+
+    private static void updateSortedKey(Path indexPath, Path sortedPath) throws IOException {
+        if (!Files.exists(sortedPath)) {
+            return;
+        }
+        BasicFileAttributes sortedAttributes = Files.readAttributes(sortedPath, BasicFileAttributes.class);
+        ByteBuffer sortedKey = ByteBuffer.allocate(2 * Long.BYTES);
+        sortedKey.putLong(0, sortedAttributes.size());
+        sortedKey.putLong(Long.BYTES, sortedAttributes.lastModifiedTime().toMillis());
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.WRITE)) {
+            while (sortedKey.hasRemaining()) {
+                channel.write(sortedKey, SORTED_SIZE_OFFSET + sortedKey.position());
+            }
+        }
+    }
+
+    /**
+     * Обчислює CRC32C вмісту файлу, відображеного в пам'ять.
+     */
+    static long checksum(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += Integer.MAX_VALUE) {
+                long length = Math.min(Integer.MAX_VALUE, size - position);
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Повертає індекс значень файлу.
+     * 
+     * @return Гістограма значень
+     */
+    public ByteIndex getByteIndex() {
+        return byteIndex;
+    }
+
+    /**
+     * Повертає значення файлу у вихідному порядку як примітивний масив byte.
+     * 
+     * @return Новий масив byte
+     */
+    public byte[] toArray() {
+        byte[] resultArray = new byte[values.capacity()];
+        values.duplicate().position(0).get(resultArray);
+        return resultArray;
+    }
+
+    /**
+     * Повертає значення за зростанням без копіювання (подання лише для читання).
+     * 
+     * @return Буфер відсортованих значень
+     */
+    public ByteBuffer sortedValues() {
+        return sortedValues.duplicate();
+    }
+
+    /**
+     * Повертає запити діапазону та рангу над значеннями файлу.
+     * 
+     * @return Запити над індексом і відсортованими значеннями
+     */
+    public ByteRangeQuery rangeQuery() {
+        return new ByteRangeQuery(byteIndex, sortedValues);
+    }
+
+    /**
+     * Повідомляє, чи індекс було побудовано заново замість завантаження з кешу.
+     * 
+     * @return true, якщо кеш був відсутній або застарів
+     */
+    public boolean isRebuilt() {
+        return rebuilt;
+    }
+}
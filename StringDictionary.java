@@ -0,0 +1,452 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Клас StringDictionary зберігає стовпець рядків як впорядкований словник з фронтальним
+ * кодуванням (front coding) та масив ідентифікаторів рядків.
+ * 
+ * <p>Різні значення впорядковуються за байтами UTF-8 (це збігається з порядком кодових точок)
+ * і отримують ідентифікатори 0..n-1 за цим порядком. Значення групуються у блоки по
+ * {@value #BLOCK_SIZE}: перше значення блоку зберігається повністю, кожне наступне - як довжина
+ * спільного з попереднім префікса та решта байтів. Довжини записуються як varint.</p>
+ * 
+ * <p>Точний пошук, пошук за префіксом і підрахунок виконуються двійковим пошуком по перших
+ * значеннях блоків та послідовним декодуванням одного блоку у тимчасовий буфер без створення
+ * об'єктів String. Кількість рядків даних для префікса рахується за префіксними сумами частот.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java StringDictionary --prefix "Golden"
+ * java BasicDataOperation --strings --lookup "Waves crashing under the moonlight"
+ * }
+ * </pre>
+ */
+public final class StringDictionary {
+    private static final String USAGE_MESSAGE = "Використання: java StringDictionary [--input <файл>] [--lookup <рядок>] [--prefix <префікс>]\n" +
+"Приклад:\n" +
+"  java StringDictionary --prefix \"Golden\"";
+
+    static final int BLOCK_SIZE = 16;
+
+    // оцінка для 64-бітної JVM зі стиснутими посиланнями та компактними рядками
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_OBJECT_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final byte[] data;
+    private final int[] blockOffsets;
+    private final int termCount;
+    private final int maxTermLength;
+    private final int[] cumulativeCounts;
+    private final int[] rowIds;
+
+    private StringDictionary(byte[] data, int[] blockOffsets, int termCount, int maxTermLength,
+            int[] cumulativeCounts, int[] rowIds) {
+        this.data = data;
+        this.blockOffsets = blockOffsets;
+        this.termCount = termCount;
+        this.maxTermLength = maxTermLength;
+        this.cumulativeCounts = cumulativeCounts;
+        this.rowIds = rowIds;
+    }
+
+    /**
+     * Будує словник зі стовпця рядків.
+     * 
+     * @param values Рядки у порядку даних
+     * @param size Кількість рядків
+     * @return Словник з ідентифікаторами всіх рядків
+     */
+    public static StringDictionary build(String[] values, int size) {
+        // стовпці дуже повторювані, тому спершу відбираємо різні значення
+        Map<String, Integer> distinct = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            distinct.putIfAbsent(values[i], distinct.size());
+        }
+
+        byte[][] terms = new byte[distinct.size()][];
+        String[] distinctValues = new String[distinct.size()];
+        for (Map.Entry<String, Integer> entry : distinct.entrySet()) {
+            distinctValues[entry.getValue()] = entry.getKey();
+        }
+        Integer[] order = new Integer[distinctValues.length];
+        for (int i = 0; i < distinctValues.length; i++) {
+            terms[i] = distinctValues[i].getBytes(StandardCharsets.UTF_8);
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) -> Arrays.compareUnsigned(terms[left], terms[right]));
+
+        // перший номер -> ідентифікатор у впорядкованому словнику
+        int[] idByFirstSeen = new int[order.length];
+        for (int id = 0; id < order.length; id++) {
+            idByFirstSeen[order[id]] = id;
+        }
+        int[] rowIds = new int[size];
+        int[] cumulativeCounts = new int[order.length + 1];
+        for (int i = 0; i < size; i++) {
+            int id = idByFirstSeen[distinct.get(values[i])];
+            rowIds[i] = id;
+            cumulativeCounts[id + 1]++;
+        }
+        for (int id = 0; id < order.length; id++) {
+            cumulativeCounts[id + 1] += cumulativeCounts[id];
+        }
+
+        int[] blockOffsets = new int[(order.length + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        byte[] data = new byte[64];
+        int position = 0;
+        int maxTermLength = 0;
+        byte[] previous = null;
+        for (int id = 0; id < order.length; id++) {
+            byte[] term = terms[order[id]];
+            maxTermLength = Math.max(maxTermLength, term.length);
+            // запас на два varint по 5 байтів
+            if (data.length - position < term.length + 10) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, position + term.length + 10));
+            }
+            if (id % BLOCK_SIZE == 0) {
+                blockOffsets[id / BLOCK_SIZE] = position;
+                position = writeVarInt(data, position, term.length);
+                System.arraycopy(term, 0, data, position, term.length);
+                position += term.length;
+            } else {
+                int shared = Arrays.mismatch(previous, term);
+                position = writeVarInt(data, position, shared);
+                position = writeVarInt(data, position, term.length - shared);
+                System.arraycopy(term, shared, data, position, term.length - shared);
+                position += term.length - shared;
+            }
+            previous = term;
+        }
+
+        return new StringDictionary(Arrays.copyOf(data, position), blockOffsets, order.length,
+                maxTermLength, cumulativeCounts, rowIds);
+    }
+
+    private static int writeVarInt(byte[] target, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            target[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[position++] = (byte) value;
+        return position;
+    }
+
+    /**
+     * Кількість різних значень у словнику.
+     */
+    public int termCount() {
+        return termCount;
+    }
+
+    /**
+     * Кількість рядків даних.
+     */
+    public int rowCount() {
+        return rowIds.length;
+    }
+
+    /**
+     * Повертає ідентифікатор значення рядка даних.
+     * 
+     * @param row Номер рядка даних
+     * @return Ідентифікатор у словнику
+     */
+    public int rowId(int row) {
+        return rowIds[row];
+    }
+
+    /**
+     * Повертає кількість рядків даних з цим ідентифікатором.
+     * 
+     * @param id Ідентифікатор у словнику
+     * @return Частота значення
+     */
+    public int frequency(int id) {
+        return cumulativeCounts[id + 1] - cumulativeCounts[id];
+    }
+
+    /**
+     * Повертає ідентифікатор значення або від'ємне значення {@code -(точка вставки) - 1},
+     * як {@link Arrays#binarySearch}.
+     * 
+     * @param value Значення для пошуку
+     * @return Ідентифікатор або від'ємна точка вставки
+     */
+    public int lookup(String value) {
+        return lookup(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Повертає ідентифікатор значення, заданого байтами UTF-8.
+     * 
+     * @param key Байти значення
+     * @return Ідентифікатор або від'ємна точка вставки
+     */
+    public int lookup(byte[] key) {
+        int id = search(key, false);
+        if (id < termCount && compareTerm(id, key, false) == 0) {
+            return id;
+        }
+        return -id - 1;
+    }
+
+    /**
+     * Повертає перший ідентифікатор значень з префіксом.
+     * 
+     * @param prefix Префікс
+     * @return Початок діапазону ідентифікаторів (включно)
+     */
+    public int prefixStart(String prefix) {
+        return search(prefix.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    /**
+     * Повертає ідентифікатор, що йде одразу після значень з префіксом.
+     * 
+     * @param prefix Префікс
+     * @return Кінець діапазону ідентифікаторів (не включно)
+     */
+    public int prefixEnd(String prefix) {
+        return search(prefix.getBytes(StandardCharsets.UTF_8), true);
+    }
+
+    /**
+     * Повертає кількість різних значень з префіксом.
+     * 
+     * @param prefix Префікс
+     * @return Кількість значень словника
+     */
+    public int countDistinctWithPrefix(String prefix) {
+        byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+        return search(key, true) - search(key, false);
+    }
+
+    /**
+     * Повертає кількість рядків даних, значення яких починаються з префікса.
+     * 
+     * @param prefix Префікс
+     * @return Кількість рядків даних
+     */
+    public int countRowsWithPrefix(String prefix) {
+        byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+        return cumulativeCounts[search(key, true)] - cumulativeCounts[search(key, false)];
+    }
+
+    /**
+     * Декодує значення за ідентифікатором. Рядок створюється лише тут.
+     * 
+     * @param id Ідентифікатор у словнику
+     * @return Значення
+     */
+    public String term(int id) {
+        byte[] scratch = new byte[maxTermLength];
+        int length = decode(id, scratch);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Обсяг пам'яті словника та ідентифікаторів рядків у байтах.
+     */
+    public long memoryBytes() {
+        return ARRAY_HEADER_BYTES + (long) data.length
+                + ARRAY_HEADER_BYTES + (long) blockOffsets.length * Integer.BYTES
+                + ARRAY_HEADER_BYTES + (long) cumulativeCounts.length * Integer.BYTES
+                + ARRAY_HEADER_BYTES + (long) rowIds.length * Integer.BYTES;
+    }
+
+    /**
+     * Оцінює обсяг пам'яті звичайного масиву String[] з тими самими рядками: посилання,
+     * об'єкт String і масив байтів (Latin-1 або UTF-16) для кожного рядка.
+     * 
+     * @param values Рядки
+     * @param size Кількість рядків
+     * @return Оцінка у байтах
+     */
+    public static long estimateStringArrayBytes(String[] values, int size) {
+        long total = ARRAY_HEADER_BYTES;
+        for (int i = 0; i < size; i++) {
+            String value = values[i];
+            boolean latin1 = true;
+            for (int j = 0; j < value.length() && latin1; j++) {
+                latin1 = value.charAt(j) < 256;
+            }
+            long payload = latin1 ? value.length() : value.length() * 2L;
+            total += REFERENCE_BYTES + STRING_OBJECT_BYTES + ((ARRAY_HEADER_BYTES + payload + 7) & ~7L);
+        }
+        return total;
+    }
+
+    /**
+     * Знаходить перший ідентифікатор, значення якого не менше за ключ. Якщо {@code afterPrefix},
+     * значення порівнюється лише за першими байтами довжини ключа, тож результат - перший
+     * ідентифікатор після всіх значень з префіксом.
+     */
+    private int search(byte[] key, boolean afterPrefix) {
+        // останній блок, перше значення якого ще менше за ключ
+        int low = 0;
+        int high = blockOffsets.length - 1;
+        int block = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (compareBlockHead(middle, key, afterPrefix) < 0) {
+                block = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (block < 0) {
+            return 0;
+        }
+
+        byte[] scratch = new byte[maxTermLength];
+        int[] cursor = {blockOffsets[block]};
+        int firstId = block * BLOCK_SIZE;
+        int lastId = Math.min(firstId + BLOCK_SIZE, termCount);
+        for (int id = firstId; id < lastId; id++) {
+            int length = decodeNext(cursor, scratch, id == firstId);
+            if (compare(scratch, 0, length, key, afterPrefix) >= 0) {
+                return id;
+            }
+        }
+        return lastId;
+    }
+
+    private int compareBlockHead(int block, byte[] key, boolean afterPrefix) {
+        int[] cursor = {blockOffsets[block]};
+        int length = readVarInt(cursor);
+        return compare(data, cursor[0], length, key, afterPrefix);
+    }
+
+    private int compareTerm(int id, byte[] key, boolean afterPrefix) {
+        byte[] scratch = new byte[maxTermLength];
+        int length = decode(id, scratch);
+        return compare(scratch, 0, length, key, afterPrefix);
+    }
+
+    /**
+     * Порівнює значення з ключем. Для пошуку після префікса значення з префіксом вважаються
+     * меншими за ключ, а більші за префікс - більшими.
+     */
+    private static int compare(byte[] term, int offset, int length, byte[] key, boolean afterPrefix) {
+        if (afterPrefix) {
+            int compared = Math.min(length, key.length);
+            int result = Arrays.compareUnsigned(term, offset, offset + compared, key, 0, compared);
+            return result != 0 ? result : -1;
+        }
+        return Arrays.compareUnsigned(term, offset, offset + length, key, 0, key.length);
+    }
+
+    private int decode(int id, byte[] scratch) {
+        if (id < 0 || id >= termCount) {
+            throw new IndexOutOfBoundsException("Ідентифікатор " + id + " поза межами словника розміром " + termCount);
+        }
+        int firstId = id - id % BLOCK_SIZE;
+        int[] cursor = {blockOffsets[id / BLOCK_SIZE]};
+        int length = 0;
+        for (int current = firstId; current <= id; current++) {
+            length = decodeNext(cursor, scratch, current == firstId);
+        }
+        return length;
+    }
+
+    private int decodeNext(int[] cursor, byte[] scratch, boolean blockHead) {
+        int shared = blockHead ? 0 : readVarInt(cursor);
+        int suffixLength = readVarInt(cursor);
+        System.arraycopy(data, cursor[0], scratch, shared, suffixLength);
+        cursor[0] += suffixLength;
+        return shared + suffixLength;
+    }
+
+    private int readVarInt(int[] cursor) {
+        int position = cursor[0];
+        int value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = data[position++];
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        cursor[0] = position;
+        return value;
+    }
+
+    /**
+     * Будує словник рядків з фронтальним кодуванням, порівнює його обсяг з масивом String[]
+     * і виконує точний пошук та пошук за префіксом. Той самий режим доступний як
+     * {@code java BasicDataOperation --strings ...}.
+     * 
+     * @param args Необов'язкові параметри --input, --lookup та --prefix
+     */
+    public static void main(String[] args) {
+        String inputPath = BasicDataOperation.PATH_TO_STRING_FILE;
+        String lookupValue = null;
+        String prefix = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--input": inputPath = BasicDataOperation.optionValue(args, i++); break;
+                    case "--lookup": lookupValue = BasicDataOperation.optionValue(args, i++); break;
+                    case "--prefix": prefix = BasicDataOperation.optionValue(args, i++); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        long timeStart = System.nanoTime();
+        TypedDataPipeline.StringColumn column =
+                (TypedDataPipeline.StringColumn) TypedDataPipeline.loadColumn(inputPath, TypedDataPipeline.DataType.STRING);
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження рядків " + inputPath);
+        if (column.size() == 0) {
+            System.out.println("Файл не містить даних.");
+            return;
+        }
+
+        timeStart = System.nanoTime();
+        StringDictionary dictionary = build(column.values, column.size());
+        PerformanceTracker.displayOperationTime(timeStart, "побудова словника рядків");
+
+        long arrayBytes = estimateStringArrayBytes(column.values, column.size());
+        System.out.println("Рядків: " + dictionary.rowCount() + ", різних значень: " + dictionary.termCount());
+        System.out.println(String.format("Пам'ять: словник %d байт, String[] %d байт (%.1f%%)",
+                dictionary.memoryBytes(), arrayBytes, 100.0 * dictionary.memoryBytes() / arrayBytes));
+
+        if (lookupValue != null) {
+            timeStart = System.nanoTime();
+            int id = dictionary.lookup(lookupValue);
+            PerformanceTracker.displayOperationTime(timeStart, "точний пошук у словнику");
+            if (id >= 0) {
+                System.out.println("Значення '" + lookupValue + "' має ідентифікатор " + id
+                        + " і зустрічається " + dictionary.frequency(id) + " раз(ів)");
+            } else {
+                System.out.println("Значення '" + lookupValue + "' відсутнє у словнику.");
+            }
+        }
+
+        if (prefix != null) {
+            timeStart = System.nanoTime();
+            int start = dictionary.prefixStart(prefix);
+            int end = dictionary.prefixEnd(prefix);
+            int rows = dictionary.countRowsWithPrefix(prefix);
+            PerformanceTracker.displayOperationTime(timeStart, "пошук за префіксом у словнику");
+            System.out.println("Префікс '" + prefix + "': ідентифікатори [" + start + ", " + end
+                    + "), різних значень: " + (end - start) + ", рядків: " + rows);
+            int shown = Math.min(end - start, BasicDataOperation.QUERY_PRINT_LIMIT);
+            for (int id = start; id < start + shown; id++) {
+                System.out.println("  " + id + ": " + dictionary.term(id));
+            }
+            if (end - start > shown) {
+                System.out.println("  ... ще " + (end - start - shown) + " значень");
+            }
+        }
+    }
+}
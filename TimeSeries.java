@@ -0,0 +1,344 @@
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Клас TimeSeries зберігає впорядковані мітки часу як секунди від епохи у масиві long.
+ * 
+ * <p>Над масивом виконуються пошук діапазону часу двійковим пошуком, агрегація за інтервалами
+ * (хвилина, година, доба) за один прохід і злиття двох рядів за лінійний час. Жодна операція
+ * не створює об'єктів дати: мітки часу перетворюються на текст лише під час виведення.</p>
+ * 
+ * <p>Усі діапазони напіввідкриті: {@code [fromInclusive, toExclusive)}.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java TimeSeries --bucket hour
+ * java BasicDataOperation --timeseries --from 2025-03-01T00:00:00Z --to 2025-04-01T00:00:00Z --bucket day
+ * }
+ * </pre>
+ */
+public final class TimeSeries {
+    private static final String USAGE_MESSAGE = "Використання: java TimeSeries [--input <файл>[,<файл>...]] [--bucket minute|hour|day] [--from <дата-час>] [--to <дата-час>]\n" +
+"Приклад:\n" +
+"  java TimeSeries --from 2025-03-01T00:00:00Z --to 2025-04-01T00:00:00Z --bucket day";
+
+    private final long[] seconds;
+    private final int size;
+
+    private TimeSeries(long[] sortedSeconds, int size) {
+        this.seconds = sortedSeconds;
+        this.size = size;
+    }
+
+    /**
+     * Створює ряд з довільно впорядкованих міток часу. Масив копіюється і сортується.
+     * 
+     * @param epochSeconds Секунди від епохи
+     * @return Впорядкований ряд
+     */
+    public static TimeSeries of(long[] epochSeconds) {
+        long[] sorted = Arrays.copyOf(epochSeconds, epochSeconds.length);
+        Arrays.sort(sorted);
+        return new TimeSeries(sorted, sorted.length);
+    }
+
+    /**
+     * Завантажує файл міток часу ISO-8601 (по одній у рядку) і впорядковує їх.
+     * 
+     * @param filePath Шлях до файлу даних
+     * @return Впорядкований ряд
+     * @throws IOException якщо читання не вдалося
+     * @throws NumberFormatException якщо рядок не є коректною датою й часом
+     */
+    public static TimeSeries load(String filePath) throws IOException {
+        long[] values = IsoInstantParser.loadEpochSeconds(filePath);
+        Arrays.sort(values);
+        return new TimeSeries(values, values.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Повертає мітку часу на позиції у впорядкованому ряді.
+     * 
+     * @param index Позиція
+     * @return Секунди від епохи
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Позиція " + index + " поза межами ряду розміром " + size);
+        }
+        return seconds[index];
+    }
+
+    /**
+     * Повертає позицію першої мітки часу, не меншої за задану.
+     * 
+     * @param epochSecond Секунди від епохи
+     * @return Позиція від 0 до size включно
+     */
+    public int lowerBound(long epochSecond) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (seconds[middle] < epochSecond) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Повертає кількість міток часу в діапазоні за O(log n).
+     * 
+     * @param fromInclusive Початок (включно)
+     * @param toExclusive Кінець (не включно)
+     * @return Кількість міток часу
+     */
+    public int countInRange(long fromInclusive, long toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return 0;
+        }
+        return lowerBound(toExclusive) - lowerBound(fromInclusive);
+    }
+
+    /**
+     * Повертає мітки часу діапазону за зростанням без копіювання.
+     * 
+     * @param fromInclusive Початок (включно)
+     * @param toExclusive Кінець (не включно)
+     * @return Подання лише для читання з позицією 0 і довжиною, що дорівнює кількості міток
+     */
+    public LongBuffer range(long fromInclusive, long toExclusive) {
+        int start = lowerBound(fromInclusive);
+        int count = countInRange(fromInclusive, toExclusive);
+        return LongBuffer.wrap(seconds, 0, size).slice(start, count).asReadOnlyBuffer();
+    }
+
+    /**
+     * Зливає два впорядковані ряди в новий за O(n + m) без повторного сортування.
+     * 
+     * @param other Інший ряд
+     * @return Новий ряд з мітками часу обох рядів
+     */
+    public TimeSeries merge(TimeSeries other) {
+        long[] merged = new long[size + other.size];
+        int left = 0;
+        int right = 0;
+        int target = 0;
+        while (left < size && right < other.size) {
+            merged[target++] = seconds[left] <= other.seconds[right] ? seconds[left++] : other.seconds[right++];
+        }
+        System.arraycopy(seconds, left, merged, target, size - left);
+        target += size - left;
+        System.arraycopy(other.seconds, right, merged, target, other.size - right);
+        return new TimeSeries(merged, merged.length);
+    }
+
+    /**
+     * Рахує мітки часу всього ряду за інтервалами заданої тривалості.
+     * 
+     * @param unit Тривалість інтервалу
+     * @return Непорожні інтервали за зростанням
+     */
+    public Buckets aggregate(BucketUnit unit) {
+        return aggregateIndices(unit, 0, size);
+    }
+
+    /**
+     * Рахує мітки часу діапазону за інтервалами заданої тривалості. Оскільки ряд
+     * впорядкований, інтервали формуються за один прохід без хеш-таблиці.
+     * 
+     * @param unit Тривалість інтервалу
+     * @param fromInclusive Початок діапазону (включно)
+     * @param toExclusive Кінець діапазону (не включно)
+     * @return Непорожні інтервали за зростанням
+     */
+    public Buckets aggregate(BucketUnit unit, long fromInclusive, long toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return new Buckets(unit, new long[0], new int[0], 0);
+        }
+        return aggregateIndices(unit, lowerBound(fromInclusive), lowerBound(toExclusive));
+    }
+
+    private Buckets aggregateIndices(BucketUnit unit, int startIndex, int endIndex) {
+        long width = unit.seconds();
+        int capacity = Math.min(endIndex - startIndex, 1 << 10);
+        long[] starts = new long[capacity];
+        int[] counts = new int[capacity];
+        int bucketCount = 0;
+
+        long currentStart = 0;
+        for (int i = startIndex; i < endIndex; i++) {
+            long bucketStart = Math.floorDiv(seconds[i], width) * width;
+            if (bucketCount == 0 || bucketStart != currentStart) {
+                if (bucketCount == starts.length) {
+                    starts = Arrays.copyOf(starts, bucketCount * 2);
+                    counts = Arrays.copyOf(counts, bucketCount * 2);
+                }
+                currentStart = bucketStart;
+                starts[bucketCount++] = bucketStart;
+            }
+            counts[bucketCount - 1]++;
+        }
+        return new Buckets(unit, starts, counts, bucketCount);
+    }
+
+    /**
+     * Тривалість інтервалу агрегації.
+     */
+    public enum BucketUnit {
+        MINUTE(60),
+        HOUR(3_600),
+        DAY(86_400);
+
+        private final long seconds;
+
+        BucketUnit(long seconds) {
+            this.seconds = seconds;
+        }
+
+        public long seconds() {
+            return seconds;
+        }
+
+        /**
+         * Повертає тривалість за назвою: minute, hour або day.
+         * 
+         * @param name Назва без урахування регістру
+         * @return Тривалість інтервалу
+         * @throws IllegalArgumentException якщо назва невідома
+         */
+        public static BucketUnit fromName(String name) {
+            for (BucketUnit unit : values()) {
+                if (unit.name().equalsIgnoreCase(name)) {
+                    return unit;
+                }
+            }
+            throw new IllegalArgumentException("Невідомий інтервал " + name + " (очікується minute, hour або day)");
+        }
+    }
+
+    /**
+     * Результат агрегації: початки непорожніх інтервалів та кількості міток часу в них.
+     */
+    public static final class Buckets {
+        private final BucketUnit unit;
+        private final long[] starts;
+        private final int[] counts;
+        private final int size;
+
+        Buckets(BucketUnit unit, long[] starts, int[] counts, int size) {
+            this.unit = unit;
+            this.starts = starts;
+            this.counts = counts;
+            this.size = size;
+        }
+
+        public BucketUnit unit() {
+            return unit;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param index Позиція інтервалу
+         * @return Початок інтервалу в секундах від епохи
+         */
+        public long start(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Позиція " + index + " поза межами " + size + " інтервалів");
+            }
+            return starts[index];
+        }
+
+        /**
+         * @param index Позиція інтервалу
+         * @return Кількість міток часу в інтервалі
+         */
+        public int count(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Позиція " + index + " поза межами " + size + " інтервалів");
+            }
+            return counts[index];
+        }
+    }
+
+    /**
+     * Завантажує файли міток часу, зливає їх в один впорядкований ряд і виводить кількість
+     * міток у діапазоні та їх розподіл за інтервалами. Той самий режим доступний як
+     * {@code java BasicDataOperation --timeseries ...}.
+     * 
+     * @param args Необов'язкові параметри --input, --bucket, --from та --to
+     */
+    public static void main(String[] args) {
+        String[] inputPaths = { BasicDataOperation.PATH_TO_DATE_TIME_FILE };
+        BucketUnit unit = BucketUnit.HOUR;
+        long from = Long.MIN_VALUE;
+        long to = Long.MAX_VALUE;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--input": inputPaths = BasicDataOperation.optionValue(args, i++).split(","); break;
+                    case "--bucket": unit = BucketUnit.fromName(BasicDataOperation.optionValue(args, i++)); break;
+                    case "--from": from = IsoInstantParser.parseEpochSeconds(BasicDataOperation.optionValue(args, i++)); break;
+                    case "--to": to = IsoInstantParser.parseEpochSeconds(BasicDataOperation.optionValue(args, i++)); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        TimeSeries series = null;
+        try {
+            for (String inputPath : inputPaths) {
+                long timeStart = System.nanoTime();
+                TimeSeries loaded = load(inputPath);
+                PerformanceTracker.displayOperationTime(timeStart, "завантаження часового ряду " + inputPath);
+                if (series == null) {
+                    series = loaded;
+                } else {
+                    timeStart = System.nanoTime();
+                    series = series.merge(loaded);
+                    PerformanceTracker.displayOperationTime(timeStart, "злиття часових рядів");
+                }
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            return;
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+            return;
+        }
+
+        long timeStart = System.nanoTime();
+        int count = series.countInRange(from, to);
+        PerformanceTracker.displayOperationTime(timeStart, "пошук діапазону часу");
+        timeStart = System.nanoTime();
+        Buckets buckets = series.aggregate(unit, from, to);
+        PerformanceTracker.displayOperationTime(timeStart, "агрегація часового ряду");
+
+        System.out.println("Міток часу: " + series.size() + ", у діапазоні: " + count
+                + ", інтервалів (" + unit.name().toLowerCase() + "): " + buckets.size());
+        int shown = Math.min(buckets.size(), BasicDataOperation.QUERY_PRINT_LIMIT);
+        for (int i = 0; i < shown; i++) {
+            System.out.println("  " + Instant.ofEpochSecond(buckets.start(i)) + " " + buckets.count(i));
+        }
+        if (buckets.size() > shown) {
+            System.out.println("  ... ще " + (buckets.size() - shown) + " інтервалів");
+        }
+    }
+}
@@ -0,0 +1,736 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Клас TypedDataPipeline виконує аналіз будь-якого файлу даних з каталогу list/.
+ * 
+ * <p>Тип даних визначається за назвою файлу, а значення завантажуються у
+ * примітивний контейнер відповідного типу без упаковки в об'єкти:</p>
+ * <ul>
+ *   <li>byte, short, int, long, float, double - масиви відповідних примітивів</li>
+ *   <li>Character - масив char</li>
+ *   <li>LocalDate, LocalDateTime - масив long з секундами від епохи (UTC)</li>
+ *   <li>LocalTime - масив long з секундами від початку доби</li>
+ *   <li>String - масив рядків</li>
+ * </ul>
+ * 
+ * <p>Для кожного файлу виконується той самий аналіз, що й для byte: пошук
+ * граничних значень, сортування та бінарний пошук. Для числових типів додатково
+ * обчислюється однопрохідна статистика {@link PrimitiveStatistics}.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java TypedDataPipeline list/int.data 2147483647
+ * java TypedDataPipeline list/LocalDateTime.data 2025-01-02T20:42:25Z
+ * java TypedDataPipeline all
+ * }
+ * </pre>
+ */
+public class TypedDataPipeline {
+    static final String DATA_DIRECTORY = "list";
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final int HISTOGRAM_PRINT_LIMIT = 16;
+
+    private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
+    private static final String USAGE_MESSAGE = "Використання: java TypedDataPipeline <файл-даних|all> [пошукове-значення]\n" +
+"Приклад:\n" +
+"  java TypedDataPipeline list/int.data 2147483647\n" +
+"  java TypedDataPipeline all";
+
+    /**
+     * Типи даних, що підтримуються, та відповідні назви файлів.
+     */
+    enum DataType {
+        BYTE("byte", true),
+        SHORT("short", true),
+        INT("int", true),
+        LONG("long", true),
+        FLOAT("float", true),
+        DOUBLE("double", true),
+        CHARACTER("Character", false),
+        STRING("String", false),
+        LOCAL_DATE("LocalDate", false),
+        LOCAL_TIME("LocalTime", false),
+        LOCAL_DATE_TIME("LocalDateTime", false);
+
+        final String typeName;
+        /** Чи має сенс для типу числова статистика (часові типи зберігаються як long, але не є числами). */
+        final boolean numeric;
+
+        DataType(String typeName, boolean numeric) {
+            this.typeName = typeName;
+            this.numeric = numeric;
+        }
+
+        /**
+         * Визначає тип даних за назвою файлу (наприклад, list/int.data).
+         * 
+         * @param filePath Шлях до файлу даних
+         * @return Тип даних
+         * @throws IllegalArgumentException якщо тип не підтримується
+         */
+        static DataType fromFileName(String filePath) {
+            String fileName = Paths.get(filePath).getFileName().toString();
+            for (DataType type : values()) {
+                if (fileName.equals(type.typeName + ".data")) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Непідтримуваний файл даних: " + fileName);
+        }
+
+        /**
+         * Створює порожній примітивний контейнер для цього типу.
+         * 
+         * @return Контейнер даних
+         */
+        Column createColumn() {
+            switch (this) {
+                case BYTE: return new ByteColumn();
+                case SHORT: return new ShortColumn();
+                case INT: return new IntColumn();
+                case LONG: return new LongColumn(Long::parseLong, Long::toString);
+                case FLOAT: return new FloatColumn();
+                case DOUBLE: return new DoubleColumn();
+                case CHARACTER: return new CharColumn();
+                case STRING: return new StringColumn();
+                case LOCAL_DATE: return new LongColumn(
+                        token -> LocalDate.parse(token).toEpochDay() * SECONDS_PER_DAY,
+                        seconds -> LocalDate.ofEpochDay(Math.floorDiv(seconds, SECONDS_PER_DAY)).toString());
+                case LOCAL_TIME: return new LongColumn(
+                        token -> LocalTime.parse(token).toSecondOfDay(),
+                        seconds -> LocalTime.ofSecondOfDay(seconds).toString());
+                case LOCAL_DATE_TIME: return new LongColumn(
+                        TypedDataPipeline::parseDateTimeSeconds,
+                        seconds -> Instant.ofEpochSecond(seconds).toString());
+                default: throw new IllegalStateException("Невідомий тип " + this);
+            }
+        }
+    }
+
+    /**
+     * Перетворює дату й час у секунди від епохи. Значення з суфіксом Z
+     * розбираються як Instant, інші - як LocalDateTime у UTC. Значення фіксованої
+     * ширини без дробових секунд розбираються {@link IsoInstantParser} без створення об'єктів.
+     */
+    static long parseDateTimeSeconds(String token) {
+        int length = token.length();
+        if (length == 19 || (length == 20 && token.charAt(19) == 'Z')) {
+            return IsoInstantParser.parseEpochSeconds(token);
+        }
+        if (token.endsWith("Z")) {
+            return Instant.parse(token).getEpochSecond();
+        }
+        return LocalDateTime.parse(token).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Базовий клас для примітивних контейнерів даних.
+     * 
+     * Кожна реалізація зберігає значення у масиві власного примітивного типу,
+     * який росте при додаванні, і виконує сортування та пошук без упаковки.
+     * Контейнери int, long і double використовують списки {@link IntArrayList},
+     * {@link LongArrayList} та {@link DoubleArrayList}.
+     */
+    abstract static class Column {
+        static final int INITIAL_CAPACITY = 256;
+
+        /**
+         * Розбирає рядок і додає значення в кінець контейнера.
+         * 
+         * @param token Текстове представлення значення
+         */
+        abstract void add(String token);
+
+        /**
+         * Упорядковує значення за зростанням.
+         */
+        abstract void sort();
+
+        /**
+         * Шукає значення у впорядкованому контейнері.
+         * 
+         * @param token Текстове представлення значення
+         * @return Позиція значення або від'ємне число, якщо значення відсутнє
+         */
+        abstract int search(String token);
+
+        /**
+         * Повертає пару {найменше, найбільше} значення без упаковки.
+         * 
+         * @return Граничні значення у текстовому вигляді
+         */
+        abstract String[] minMax();
+
+        /**
+         * Повертає значення за позицією у текстовому вигляді.
+         * 
+         * @param index Позиція значення
+         * @return Текстове представлення
+         */
+        abstract String format(int index);
+
+        /**
+         * Повертає приблизний розмір даних контейнера в байтах.
+         * 
+         * @return Розмір у байтах
+         */
+        abstract long dataBytes();
+
+        /**
+         * Обчислює однопрохідну статистику числового контейнера.
+         * 
+         * @return Статистика або null, якщо тип не є числовим
+         */
+        PrimitiveStatistics statistics() {
+            return null;
+        }
+
+        /**
+         * Повертає кількість значень у контейнері.
+         * 
+         * @return Кількість значень
+         */
+        abstract int size();
+
+        static int grow(int capacity) {
+            return Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1));
+        }
+    }
+
+    static final class ByteColumn extends Column {
+        byte[] values = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        @Override
+        void add(String token) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = Byte.parseByte(token);
+        }
+
+        @Override
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        @Override
+        int search(String token) {
+            return Arrays.binarySearch(values, 0, size, Byte.parseByte(token));
+        }
+
+        @Override
+        String[] minMax() {
+            byte minValue = values[0];
+            byte maxValue = values[0];
+            for (int i = 1; i < size; i++) {
+                minValue = (byte) Math.min(minValue, values[i]);
+                maxValue = (byte) Math.max(maxValue, values[i]);
+            }
+            return new String[] {Byte.toString(minValue), Byte.toString(maxValue)};
+        }
+
+        @Override
+        String format(int index) {
+            return Byte.toString(values[index]);
+        }
+
+        @Override
+        long dataBytes() {
+            return (long) size * Byte.BYTES;
+        }
+
+        @Override
+        PrimitiveStatistics statistics() {
+            return PrimitiveStatistics.of(values, 0, size);
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+    }
+
+    static final class ShortColumn extends Column {
+        short[] values = new short[INITIAL_CAPACITY];
+        private int size;
+
+        @Override
+        void add(String token) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = Short.parseShort(token);
+        }
+
+        @Override
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        @Override
+        int search(String token) {
+            return Arrays.binarySearch(values, 0, size, Short.parseShort(token));
+        }
+
+        @Override
+        String[] minMax() {
+            short minValue = values[0];
+            short maxValue = values[0];
+            for (int i = 1; i < size; i++) {
+                minValue = (short) Math.min(minValue, values[i]);
+                maxValue = (short) Math.max(maxValue, values[i]);
+            }
+            return new String[] {Short.toString(minValue), Short.toString(maxValue)};
+        }
+
+        @Override
+        String format(int index) {
+            return Short.toString(values[index]);
+        }
+
+        @Override
+        long dataBytes() {
+            return (long) size * Short.BYTES;
+        }
+
+        @Override
+        PrimitiveStatistics statistics() {
+            return PrimitiveStatistics.of(values, 0, size);
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+    }
+
+    static final class IntColumn extends Column {
+        final IntArrayList values = new IntArrayList(INITIAL_CAPACITY);
+
+        @Override
+        void add(String token) {
+            values.addInt(Integer.parseInt(token));
+        }
+
+        @Override
+        void sort() {
+            values.sort();
+        }
+
+        @Override
+        int search(String token) {
+            return values.binarySearch(Integer.parseInt(token));
+        }
+
+        @Override
+        String[] minMax() {
+            return new String[] {Integer.toString(values.min()), Integer.toString(values.max())};
+        }
+
+        @Override
+        String format(int index) {
+            return Integer.toString(values.getInt(index));
+        }
+
+        @Override
+        long dataBytes() {
+            return (long) values.size() * Integer.BYTES;
+        }
+
+        @Override
+        PrimitiveStatistics statistics() {
+            return PrimitiveStatistics.of(values.backingArray(), 0, values.size());
+        }
+
+        @Override
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * Контейнер long, який також зберігає часові типи у вигляді секунд.
+     * Розбір і форматування задаються ззовні.
+     */
+    static final class LongColumn extends Column {
+        final ToLongFunction<String> parser;
+        final LongFunction<String> formatter;
+        final LongArrayList values = new LongArrayList(INITIAL_CAPACITY);
+
+        LongColumn(ToLongFunction<String> parser, LongFunction<String> formatter) {
+            this.parser = parser;
+            this.formatter = formatter;
+        }
+
+        @Override
+        void add(String token) {
+            values.addLong(parser.applyAsLong(token));
+        }
+
+        @Override
+        void sort() {
+            values.sort();
+        }
+
+        @Override
+        int search(String token) {
+            return values.binarySearch(parser.applyAsLong(token));
+        }
+
+        @Override
+        String[] minMax() {
+            return new String[] {formatter.apply(values.min()), formatter.apply(values.max())};
+        }
+
+        @Override
+        String format(int index) {
+            return formatter.apply(values.getLong(index));
+        }
+
+        @Override
+        long dataBytes() {
+            return (long) values.size() * Long.BYTES;
+        }
+
+        @Override
+        PrimitiveStatistics statistics() {
+            return PrimitiveStatistics.of(values.backingArray(), 0, values.size());
+        }
+
+        @Override
+        int size() {
+            return values.size();
+        }
+    }
+
+    static final class FloatColumn extends Column {
+        float[] values = new float[INITIAL_CAPACITY];
+        private int size;
+
+        @Override
+        void add(String token) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = Float.parseFloat(token);
+        }
+
+        @Override
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        @Override
+        int search(String token) {
+            return Arrays.binarySearch(values, 0, size, Float.parseFloat(token));
+        }
+
+        @Override
+        String[] minMax() {
+            float minValue = values[0];
+            float maxValue = values[0];
+            for (int i = 1; i < size; i++) {
+                minValue = Math.min(minValue, values[i]);
+                maxValue = Math.max(maxValue, values[i]);
+            }
+            return new String[] {Float.toString(minValue), Float.toString(maxValue)};
+        }
+
+        @Override
+        String format(int index) {
+            return Float.toString(values[index]);
+        }
+
+        @Override
+        long dataBytes() {
+            return (long) size * Float.BYTES;
+        }
+
+        @Override
+        PrimitiveStatistics statistics() {
+            return PrimitiveStatistics.of(values, 0, size);
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+    }
+
+    static final class DoubleColumn extends Column {
+        final DoubleArrayList values = new DoubleArrayList(INITIAL_CAPACITY);
+
+        @Override
+        void add(String token) {
+            values.addDouble(Double.parseDouble(token));
+        }
+
+        @Override
+        void sort() {
+            values.sort();
+        }
+
+        @Override
+        int search(String token) {
+            return values.binarySearch(Double.parseDouble(token));
+        }
+
+        @Override
+        String[] minMax() {
+            return new String[] {Double.toString(values.min()), Double.toString(values.max())};
+        }
+
+        @Override
+        String format(int index) {
+            return Double.toString(values.getDouble(index));
+        }
+
+        @Override
+        long dataBytes() {
+            return (long) values.size() * Double.BYTES;
+        }
+
+        @Override
+        PrimitiveStatistics statistics() {
+            return PrimitiveStatistics.of(values.backingArray(), 0, values.size());
+        }
+
+        @Override
+        int size() {
+            return values.size();
+        }
+    }
+
+    static final class CharColumn extends Column {
+        char[] values = new char[INITIAL_CAPACITY];
+        private int size;
+
+        @Override
+        void add(String token) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = token.charAt(0);
+        }
+
+        @Override
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        @Override
+        int search(String token) {
+            return Arrays.binarySearch(values, 0, size, token.charAt(0));
+        }
+
+        @Override
+        String[] minMax() {
+            char minValue = values[0];
+            char maxValue = values[0];
+            for (int i = 1; i < size; i++) {
+                minValue = (char) Math.min(minValue, values[i]);
+                maxValue = (char) Math.max(maxValue, values[i]);
+            }
+            return new String[] {String.valueOf(minValue), String.valueOf(maxValue)};
+        }
+
+        @Override
+        String format(int index) {
+            return String.valueOf(values[index]);
+        }
+
+        @Override
+        long dataBytes() {
+            return (long) size * Character.BYTES;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+    }
+
+    static final class StringColumn extends Column {
+        String[] values = new String[INITIAL_CAPACITY];
+        private int size;
+
+        @Override
+        void add(String token) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = token;
+        }
+
+        @Override
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        @Override
+        int search(String token) {
+            return Arrays.binarySearch(values, 0, size, token);
+        }
+
+        @Override
+        String[] minMax() {
+            String minValue = values[0];
+            String maxValue = values[0];
+            for (int i = 1; i < size; i++) {
+                if (values[i].compareTo(minValue) < 0) {
+                    minValue = values[i];
+                }
+                if (values[i].compareTo(maxValue) > 0) {
+                    maxValue = values[i];
+                }
+            }
+            return new String[] {minValue, maxValue};
+        }
+
+        @Override
+        String format(int index) {
+            return values[index];
+        }
+
+        @Override
+        long dataBytes() {
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                total += values[i].length() * (long) Character.BYTES;
+            }
+            return total;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Завантажує файл даних у примітивний контейнер відповідного типу.
+     * BOM відкидається один раз на початку файлу, порожні рядки пропускаються.
+     * 
+     * @param filePath Шлях до файлу даних
+     * @param type Тип даних файлу
+     * @return Заповнений контейнер
+     */
+    static Column loadColumn(String filePath, DataType type) {
+        Column column = type.createColumn();
+
+        try (BufferedReader fileReader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8)) {
+            String currentLine = fileReader.readLine();
+            if (currentLine != null && !currentLine.isEmpty() && currentLine.charAt(0) == '\uFEFF') {
+                currentLine = currentLine.substring(1);
+            }
+            while (currentLine != null) {
+                // рядки String зберігаються як є, інші типи не містять пробілів на краях
+                String token = type == DataType.STRING ? currentLine : currentLine.trim();
+                if (!token.isEmpty()) {
+                    column.add(token);
+                }
+                currentLine = fileReader.readLine();
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        return column;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        if (args[0].equals("all")) {
+            for (DataType type : DataType.values()) {
+                analyzeFile(DATA_DIRECTORY + "/" + type.typeName + ".data", null);
+            }
+            return;
+        }
+
+        try {
+            DataType.fromFileName(args[0]);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            return;
+        }
+        analyzeFile(args[0], args.length > 1 ? args[1] : null);
+    }
+
+    /**
+     * Виконує повний аналіз одного файлу: завантаження, пошук граничних значень,
+     * сортування та пошук значення.
+     * 
+     * @param filePath Шлях до файлу даних
+     * @param valueToSearch Значення для пошуку; якщо null, шукається перше значення файлу
+     */
+    static void analyzeFile(String filePath, String valueToSearch) {
+        DataType type = DataType.fromFileName(filePath);
+
+        System.out.println(SEPARATOR);
+        System.out.println("🚀 АНАЛІЗ ДАНИХ " + type.typeName + " (" + filePath + ")");
+        System.out.println(SEPARATOR);
+
+        long timeStart = System.nanoTime();
+        Column column = loadColumn(filePath, type);
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження даних " + type.typeName);
+
+        if (column.size() == 0) {
+            System.out.println("Файл не містить даних.");
+            return;
+        }
+        String searchToken = valueToSearch != null ? valueToSearch : column.format(0);
+
+        System.out.println("Кiлькiсть елементiв: " + column.size() + ", обсяг даних: " + column.dataBytes() + " байт");
+
+        timeStart = System.nanoTime();
+        String[] minMax = column.minMax();
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального значення " + type.typeName);
+        System.out.println("Найменше значення: " + minMax[0]);
+        System.out.println("Найбільше значення: " + minMax[1]);
+
+        if (type.numeric) {
+            timeStart = System.nanoTime();
+            PrimitiveStatistics statistics = column.statistics();
+            PerformanceTracker.displayOperationTime(timeStart, "однопрохідна статистика " + type.typeName);
+            statistics.print(HISTOGRAM_PRINT_LIMIT);
+        }
+
+        timeStart = System.nanoTime();
+        column.sort();
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву " + type.typeName);
+
+        int position;
+        timeStart = System.nanoTime();
+        try {
+            position = column.search(searchToken);
+        } catch (RuntimeException e) {
+            System.out.println("Помилка: Невірний формат значення '" + searchToken + "' для типу " + type.typeName);
+            return;
+        }
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi " + type.typeName);
+
+        if (position >= 0) {
+            System.out.println("Елемент '" + searchToken + "' знайдено в масивi за позицією: " + position);
+        } else {
+            System.out.println("Елемент '" + searchToken + "' відсутній в масиві.");
+        }
+    }
+}
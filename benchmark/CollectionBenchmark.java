@@ -0,0 +1,333 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Клас CollectionBenchmark вимірює продуктивність обробників List, Queue, Set та Map.
+ * 
+ * <p>На відміну від одиничного виміру {@link PerformanceTracker#displayOperationTime(long, String)},
+ * кожна операція виконується у серії ітерацій розігріву (для JIT-компіляції та завантаження
+ * класів), після чого у серії вимірювальних ітерацій. Для кожної операції обчислюються
+ * пропускна здатність (оп/с) та середній час (нс/оп) з довірчим інтервалом 99,9%.</p>
+ * 
+ * <p>Операції, що змінюють стан (сортування, видалення, poll), отримують свіжі дані перед
+ * кожним викликом; час підготовки даних до виміру не входить.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * javac -d out *.java benchmark/*.java
+ * java -cp out CollectionBenchmark --files list/byte.data --sizes 200,100000
+ * java -cp out CollectionBenchmark --filter "findIn.*" --warmup 3 --iterations 5 --time 100
+ * }
+ * </pre>
+ */
+public class CollectionBenchmark {
+    private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 10;
+    private static final long DEFAULT_ITERATION_MILLIS = 200;
+    private static final byte DEFAULT_VALUE_TO_SEARCH = 126;
+
+    // Квантилі t-розподілу Стьюдента для двостороннього інтервалу 99,9% (df = 1..30)
+    private static final double[] STUDENT_T_999 = {
+        636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587,
+        4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850,
+        3.819, 3.792, 3.768, 3.745, 3.725, 3.707, 3.690, 3.674, 3.659, 3.646
+    };
+    private static final double STUDENT_T_999_LIMIT = 3.291;
+
+    private static final String USAGE_MESSAGE = "Використання: java CollectionBenchmark [--files <файли>] [--sizes <розміри>]\n" +
+"                                  [--warmup <n>] [--iterations <n>] [--time <мс>] [--filter <regex>]\n" +
+"Приклад:\n" +
+"  java CollectionBenchmark --files list/byte.data --sizes 200,100000";
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final PrintStream reportStream;
+
+    /**
+     * Опис окремого бенчмарку: підготовка стану та операція, що вимірюється.
+     * 
+     * @param <T> Тип стану, над яким виконується операція
+     */
+    static final class BenchmarkCase<T> {
+        final String name;
+        final Supplier<T> fixture;
+        final Consumer<T> operation;
+        final boolean mutating;
+
+        BenchmarkCase(String name, Supplier<T> fixture, Consumer<T> operation, boolean mutating) {
+            this.name = name;
+            this.fixture = fixture;
+            this.operation = operation;
+            this.mutating = mutating;
+        }
+    }
+
+    /**
+     * Конструктор, який задає параметри вимірювання.
+     * 
+     * @param warmupIterations Кількість ітерацій розігріву
+     * @param measurementIterations Кількість вимірювальних ітерацій
+     * @param iterationMillis Тривалість однієї ітерації в мілісекундах
+     * @param reportStream Потік для виведення результатів
+     */
+    CollectionBenchmark(int warmupIterations, int measurementIterations, long iterationMillis, PrintStream reportStream) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+        this.reportStream = reportStream;
+    }
+
+    public static void main(String[] args) {
+        List<String> files = List.of(BasicDataOperation.PATH_TO_DATA_FILE);
+        int[] sizes = {0};
+        int warmup = DEFAULT_WARMUP_ITERATIONS;
+        int iterations = DEFAULT_MEASUREMENT_ITERATIONS;
+        long time = DEFAULT_ITERATION_MILLIS;
+        Pattern filter = Pattern.compile(".*");
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Відсутнє значення для " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--files": files = Arrays.asList(value.split(",")); break;
+                    case "--sizes": sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray(); break;
+                    case "--warmup": warmup = Integer.parseInt(value); break;
+                    case "--iterations": iterations = Integer.parseInt(value); break;
+                    case "--time": time = Long.parseLong(value); break;
+                    case "--filter": filter = Pattern.compile(value); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+            if (iterations < 2) {
+                throw new IllegalArgumentException("Потрібно щонайменше 2 вимірювальні ітерації");
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        // файли перевіряються до початку вимірювань, щоб невірний файл не зупинив бенчмарк посередині
+        List<byte[]> sourceFiles = new ArrayList<>();
+        for (String file : files) {
+            try {
+                byte[] sourceData = DataFileHandler.loadPrimitiveArrayFromFile(file);
+                if (sourceData.length == 0) {
+                    throw new IllegalArgumentException("Файл " + file + " не містить значень byte");
+                }
+                sourceFiles.add(sourceData);
+            } catch (NumberFormatException e) {
+                System.out.println("Помилка: Файл " + file + " не є файлом даних byte (" + e.getMessage() + ")");
+                System.out.println(USAGE_MESSAGE);
+                return;
+            } catch (IllegalArgumentException e) {
+                System.out.println("Помилка: " + e.getMessage());
+                System.out.println(USAGE_MESSAGE);
+                return;
+            }
+        }
+
+        CollectionBenchmark benchmark = new CollectionBenchmark(warmup, iterations, time, System.out);
+        benchmark.printHeader();
+        for (int fileIndex = 0; fileIndex < files.size(); fileIndex++) {
+            String file = files.get(fileIndex);
+            byte[] sourceData = sourceFiles.get(fileIndex);
+            for (int size : sizes) {
+                int effectiveSize = size > 0 ? size : sourceData.length;
+                byte[] byteArray = resize(sourceData, effectiveSize);
+                for (BenchmarkCase<?> benchmarkCase : createCases(byteArray, effectiveSize)) {
+                    if (filter.matcher(benchmarkCase.name).matches()) {
+                        benchmark.run(benchmarkCase, file, effectiveSize);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Повторює дані файлу циклічно до потрібного розміру.
+     */
+    static byte[] resize(byte[] sourceData, int size) {
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = sourceData[i % sourceData.length];
+        }
+        return result;
+    }
+
+    /**
+     * Створює набір бенчмарків для кожного методу обробників, що вимірює час.
+     * 
+     * @param byteArray Дані byte заданого розміру
+     * @param size Кількість записів для Map
+     * @return Список бенчмарків
+     */
+    static List<BenchmarkCase<?>> createCases(byte[] byteArray, int size) {
+        byte value = DEFAULT_VALUE_TO_SEARCH;
+        Supplier<BasicDataOperationUsingList> list = () -> new BasicDataOperationUsingList(value, byteArray.clone());
+        Supplier<BasicDataOperationUsingQueue> queue = () -> new BasicDataOperationUsingQueue(value, byteArray.clone());
+        Supplier<BasicDataOperationUsingSet> set = () -> new BasicDataOperationUsingSet(value, byteArray.clone());
+        Supplier<BasicDataOperationUsingMap> map = () -> createMapProcessor(size);
+        // операції з масивом спільні для List, Queue і Set, тому вимірюються один раз
+        ByteIndex byteIndex = new ByteIndex(byteArray);
+        Supplier<byte[]> array = byteArray::clone;
+        Supplier<ByteIndex> index = () -> byteIndex;
+
+        List<BenchmarkCase<?>> cases = new ArrayList<>();
+        cases.add(new BenchmarkCase<>("Array.sort", array, sorted -> ByteArrayOperations.sort(sorted, byteIndex), true));
+        cases.add(new BenchmarkCase<>("Array.find", index, indexed -> ByteArrayOperations.find(value, indexed), false));
+        cases.add(new BenchmarkCase<>("Array.locateMinMax", index, ByteArrayOperations::locateMinMax, false));
+
+        cases.add(new BenchmarkCase<>("List.sortList", list, BasicDataOperationUsingList::sortList, true));
+        cases.add(new BenchmarkCase<>("List.findInList", list, BasicDataOperationUsingList::findInList, false));
+        cases.add(new BenchmarkCase<>("List.locateMinMaxInList", list, BasicDataOperationUsingList::locateMinMaxInList, false));
+
+        cases.add(new BenchmarkCase<>("Queue.findInQueue", queue, BasicDataOperationUsingQueue::findInQueue, false));
+        cases.add(new BenchmarkCase<>("Queue.locateMinMaxInQueue", queue, BasicDataOperationUsingQueue::locateMinMaxInQueue, false));
+
+        cases.add(new BenchmarkCase<>("Set.findInSet", set, BasicDataOperationUsingSet::findInSet, false));
+        cases.add(new BenchmarkCase<>("Set.locateMinMaxInSet", set, BasicDataOperationUsingSet::locateMinMaxInSet, false));
+
+        cases.add(new BenchmarkCase<>("Map.printHashtable", map, BasicDataOperationUsingMap::printHashtable, false));
+        cases.add(new BenchmarkCase<>("Map.sortHashtable", map, BasicDataOperationUsingMap::sortHashtable, true));
+        cases.add(new BenchmarkCase<>("Map.findByKeyInHashtable", map, BasicDataOperationUsingMap::findByKeyInHashtable, false));
+        cases.add(new BenchmarkCase<>("Map.findByValueInHashtable", map, BasicDataOperationUsingMap::findByValueInHashtable, false));
+        cases.add(new BenchmarkCase<>("Map.addEntryToHashtable", map, BasicDataOperationUsingMap::addEntryToHashtable, true));
+        cases.add(new BenchmarkCase<>("Map.removeByKeyFromHashtable", map, BasicDataOperationUsingMap::removeByKeyFromHashtable, true));
+        cases.add(new BenchmarkCase<>("Map.removeByValueFromHashtable", map, BasicDataOperationUsingMap::removeByValueFromHashtable, true));
+        cases.add(new BenchmarkCase<>("Map.printTreeMap", map, BasicDataOperationUsingMap::printTreeMap, false));
+        cases.add(new BenchmarkCase<>("Map.findByKeyInTreeMap", map, BasicDataOperationUsingMap::findByKeyInTreeMap, false));
+        cases.add(new BenchmarkCase<>("Map.findByValueInTreeMap", map, BasicDataOperationUsingMap::findByValueInTreeMap, false));
+        cases.add(new BenchmarkCase<>("Map.addEntryToTreeMap", map, BasicDataOperationUsingMap::addEntryToTreeMap, true));
+        cases.add(new BenchmarkCase<>("Map.removeByKeyFromTreeMap", map, BasicDataOperationUsingMap::removeByKeyFromTreeMap, true));
+        cases.add(new BenchmarkCase<>("Map.removeByValueFromTreeMap", map, BasicDataOperationUsingMap::removeByValueFromTreeMap, true));
+        cases.add(new BenchmarkCase<>("Map.findByKeyInConcurrentMap", map, BasicDataOperationUsingMap::findByKeyInConcurrentMap, false));
+        cases.add(new BenchmarkCase<>("Map.findByValueInConcurrentMap", map, BasicDataOperationUsingMap::findByValueInConcurrentMap, false));
+        cases.add(new BenchmarkCase<>("Map.addEntryToConcurrentMap", map, BasicDataOperationUsingMap::addEntryToConcurrentMap, true));
+        cases.add(new BenchmarkCase<>("Map.removeByKeyFromConcurrentMap", map, BasicDataOperationUsingMap::removeByKeyFromConcurrentMap, true));
+        cases.add(new BenchmarkCase<>("Map.removeByValueFromConcurrentMap", map, BasicDataOperationUsingMap::removeByValueFromConcurrentMap, true));
+        return cases;
+    }
+
+    /**
+     * Створює обробник Map з початковими даними, доповненими згенерованими записами до заданого розміру.
+     */
+    static BasicDataOperationUsingMap createMapProcessor(int size) {
+        Hashtable<BasicDataOperationUsingMap.Pet, String> hashtable = new Hashtable<>();
+        BasicDataOperationUsingMap.fillSampleData(hashtable);
+        List<String> owners = new ArrayList<>(hashtable.values());
+        for (int i = hashtable.size(); i < size; i++) {
+            hashtable.put(BasicDataOperationUsingMap.Pet.of("Pet-" + i), owners.get(i % owners.size()));
+        }
+
+        TreeMap<BasicDataOperationUsingMap.Pet, String> treeMap = new TreeMap<>(hashtable);
+        return new BasicDataOperationUsingMap(hashtable, treeMap);
+    }
+
+    private void printHeader() {
+        reportStream.printf("%-34s %-18s %9s %26s %26s%n", "Benchmark", "File", "Size", "Throughput (ops/s)", "Average (ns/op)");
+    }
+
+    /**
+     * Виконує ітерації розігріву та вимірювання для одного бенчмарку і виводить результат.
+     * Стандартний вивід обробників пригнічується на час виконання.
+     */
+    <T> void run(BenchmarkCase<T> benchmarkCase, String file, int size) {
+        PrintStream originalOut = System.out;
+        double[] throughput = new double[measurementIterations];
+        double[] averageTime = new double[measurementIterations];
+
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (int i = 0; i < warmupIterations; i++) {
+                runIteration(benchmarkCase);
+            }
+            for (int i = 0; i < measurementIterations; i++) {
+                long[] result = runIteration(benchmarkCase);
+                throughput[i] = result[0] * 1e9 / result[1];
+                averageTime[i] = (double) result[1] / result[0];
+            }
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        reportStream.printf("%-34s %-18s %9d %26s %26s%n", benchmarkCase.name, shortName(file), size,
+                formatWithError(throughput), formatWithError(averageTime));
+    }
+
+    /**
+     * Виконує одну ітерацію тривалістю {@link #iterationNanos}.
+     * 
+     * @return Пара {кількість операцій, виміряний час у наносекундах}
+     */
+    private <T> long[] runIteration(BenchmarkCase<T> benchmarkCase) {
+        long operations = 0;
+        long measuredNanos = 0;
+
+        if (benchmarkCase.mutating) {
+            // свіжий стан для кожного виклику, підготовка не входить до виміру
+            long deadline = System.nanoTime() + iterationNanos;
+            while (System.nanoTime() < deadline) {
+                T state = benchmarkCase.fixture.get();
+                long timeStart = System.nanoTime();
+                benchmarkCase.operation.accept(state);
+                measuredNanos += System.nanoTime() - timeStart;
+                operations++;
+            }
+        } else {
+            T state = benchmarkCase.fixture.get();
+            long timeStart = System.nanoTime();
+            long deadline = timeStart + iterationNanos;
+            long now;
+            do {
+                benchmarkCase.operation.accept(state);
+                operations++;
+                now = System.nanoTime();
+            } while (now < deadline);
+            measuredNanos = now - timeStart;
+        }
+
+        return new long[] {operations, Math.max(measuredNanos, 1)};
+    }
+
+    /**
+     * Форматує середнє значення з похибкою як півширину довірчого інтервалу 99,9%.
+     */
+    static String formatWithError(double[] samples) {
+        double mean = 0;
+        for (double sample : samples) {
+            mean += sample;
+        }
+        mean /= samples.length;
+
+        double variance = 0;
+        for (double sample : samples) {
+            variance += (sample - mean) * (sample - mean);
+        }
+        variance /= samples.length - 1;
+
+        int degreesOfFreedom = samples.length - 1;
+        double t = degreesOfFreedom <= STUDENT_T_999.length ? STUDENT_T_999[degreesOfFreedom - 1] : STUDENT_T_999_LIMIT;
+        double error = t * Math.sqrt(variance / samples.length);
+
+        return String.format("%.3f ± %.3f", mean, error);
+    }
+
+    private static String shortName(String file) {
+        int separator = Math.max(file.lastIndexOf('/'), file.lastIndexOf('\\'));
+        return file.substring(separator + 1);
+    }
+}
@@ -0,0 +1,129 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+/**
+ * Клас OffHeapRegistryBenchmark порівнює {@link OffHeapPetRegistry} з Hashtable і TreeMap.
+ * 
+ * <p>Для кожного розміру реєстр заповнюється записами, після чого виконується пошук кожного ключа.
+ * Виводяться час заповнення та пошуку, приріст зайнятої купи після збирання сміття,
+ * обсяг пам'яті поза купою, а також кількість і сумарна тривалість збирань сміття під час вимірювання.
+ * Імена власників створюються заздалегідь, а ключі Pet (разом із кличками) - під час заповнення
+ * та пошуку, тож приріст купи включає ключі, які реєстр тримає на купі.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * javac -d out *.java benchmark/*.java
+ * java -Xmx4g -cp out OffHeapRegistryBenchmark --sizes 100000,1000000,5000000
+ * }
+ * </pre>
+ */
+public class OffHeapRegistryBenchmark {
+    private static final int DEFAULT_OWNERS = 1_000;
+
+    private static final String USAGE_MESSAGE = "Використання: java OffHeapRegistryBenchmark [--sizes <n,n,...>] [--owners <n>]\n" +
+"Приклад:\n" +
+"  java -Xmx4g OffHeapRegistryBenchmark --sizes 100000,1000000,5000000";
+
+    public static void main(String[] args) {
+        int[] sizes = {100_000, 1_000_000};
+        int ownerCount = DEFAULT_OWNERS;
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Відсутнє значення для " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--sizes": sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray(); break;
+                    case "--owners": ownerCount = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+            if (ownerCount < 1 || Arrays.stream(sizes).anyMatch(size -> size < 1)) {
+                throw new IllegalArgumentException("Кількості мають бути додатними");
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        Map<String, IntFunction<Map<BasicDataOperationUsingMap.Pet, String>>> registries = new LinkedHashMap<>();
+        registries.put("Hashtable", size -> new Hashtable<>());
+        registries.put("TreeMap", size -> new TreeMap<>());
+        registries.put("OffHeapPetRegistry", OffHeapPetRegistry::new);
+
+        String[] owners = new String[ownerCount];
+        for (int i = 0; i < ownerCount; i++) {
+            owners[i] = "Owner-" + i;
+        }
+
+        System.out.println(String.format("%-20s %10s %14s %14s %14s %14s %8s %10s", "Реєстр", "Записів",
+                "Заповнення,мс", "Пошук,мс", "Купа, МіБ", "Поза купою,МіБ", "GC", "GC, мс"));
+        for (int size : sizes) {
+            for (Map.Entry<String, IntFunction<Map<BasicDataOperationUsingMap.Pet, String>>> registry : registries.entrySet()) {
+                long heapBefore = usedHeap();
+                long[] gcBefore = gcStatistics();
+
+                long timeStart = System.nanoTime();
+                Map<BasicDataOperationUsingMap.Pet, String> map = registry.getValue().apply(size);
+                for (int i = 0; i < size; i++) {
+                    map.put(BasicDataOperationUsingMap.Pet.of("Pet-" + i), owners[i % ownerCount]);
+                }
+                long fillNanos = System.nanoTime() - timeStart;
+
+                timeStart = System.nanoTime();
+                int found = 0;
+                for (int i = 0; i < size; i++) {
+                    if (map.get(BasicDataOperationUsingMap.Pet.of("Pet-" + i)) != null) {
+                        found++;
+                    }
+                }
+                long lookupNanos = System.nanoTime() - timeStart;
+
+                long[] gcAfter = gcStatistics();
+                long heapDelta = usedHeap() - heapBefore;
+                long offHeapBytes = map instanceof OffHeapPetRegistry ? ((OffHeapPetRegistry) map).offHeapBytes() : 0;
+                if (found != size) {
+                    System.out.println("Помилка: " + registry.getKey() + " знайшов " + found + " з " + size + " записів");
+                }
+
+                System.out.println(String.format("%-20s %10d %14.1f %14.1f %14.1f %14.1f %8d %10d", registry.getKey(),
+                        size, fillNanos / 1e6, lookupNanos / 1e6, heapDelta / 1048576.0, offHeapBytes / 1048576.0,
+                        gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]));
+                map = null;
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            // записи пулу Pet звільнених ключів прибираються лише явно або під час Pet.of
+            BasicDataOperationUsingMap.Pet.purgeReleased();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Повертає сумарну кількість збирань сміття та їх тривалість у мілісекундах.
+     */
+    private static long[] gcStatistics() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[] {count, millis};
+    }
+}
@@ -0,0 +1,117 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.stream.Stream;
+
+/**
+ * Клас PersistentRegistryBenchmark вимірює швидкість запису та відновлення {@link PersistentPetRegistry}.
+ * 
+ * <p>Для кожного розміру групи (кількості змін на один fsync) у порожній каталог записується
+ * задана кількість змін, після чого вимірюється відновлення лише з журналу, а потім - зі знімка.
+ * Виводяться пропускна здатність запису (оп/с), кількість fsync і тривалість відновлення.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * javac -d out *.java benchmark/*.java
+ * java -cp out PersistentRegistryBenchmark --records 100000 --groups 1,64,1024
+ * }
+ * </pre>
+ */
+public class PersistentRegistryBenchmark {
+    private static final int DEFAULT_RECORDS = 100_000;
+    private static final int DEFAULT_OWNERS = 1_000;
+
+    private static final String USAGE_MESSAGE = "Використання: java PersistentRegistryBenchmark [--dir <каталог>] [--records <n>] [--groups <n,n,...>]\n" +
+"Приклад:\n" +
+"  java PersistentRegistryBenchmark --records 100000 --groups 1,64,1024";
+
+    public static void main(String[] args) {
+        Path directory = null;
+        int records = DEFAULT_RECORDS;
+        int[] groupSizes = {1, 16, 256, 4096};
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Відсутнє значення для " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--dir": directory = Paths.get(value); break;
+                    case "--records": records = Integer.parseInt(value); break;
+                    case "--groups": groupSizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray(); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+            if (records < 1 || Arrays.stream(groupSizes).anyMatch(size -> size < 1)) {
+                throw new IllegalArgumentException("Кількості мають бути додатними");
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        BasicDataOperationUsingMap.Pet[] pets = new BasicDataOperationUsingMap.Pet[records];
+        for (int i = 0; i < records; i++) {
+            pets[i] = BasicDataOperationUsingMap.Pet.of("Pet-" + i);
+        }
+
+        try {
+            Path root = directory != null ? Files.createDirectories(directory) : Files.createTempDirectory("pet-registry");
+            System.out.println(String.format("%10s %14s %10s %22s %22s", "Група", "Запис, оп/с", "fsync",
+                    "Відновлення з журналу", "Відновлення зі знімка"));
+            for (int groupSize : groupSizes) {
+                Path registryDirectory = root.resolve("group-" + groupSize);
+                deleteRecursively(registryDirectory);
+
+                long syncCount;
+                long timeStart = System.nanoTime();
+                try (PersistentPetRegistry registry = PersistentPetRegistry.open(registryDirectory, new HashMap<>(),
+                        groupSize, Integer.MAX_VALUE)) {
+                    for (int i = 0; i < records; i++) {
+                        registry.put(pets[i], "Owner-" + (i % DEFAULT_OWNERS));
+                    }
+                    registry.sync();
+                    syncCount = registry.getSyncCount();
+                }
+                double writeThroughput = records * 1e9 / (System.nanoTime() - timeStart);
+
+                long logRecoveryNanos;
+                try (PersistentPetRegistry registry = PersistentPetRegistry.open(registryDirectory, new HashMap<>())) {
+                    logRecoveryNanos = registry.getRecoveryNanos();
+                    registry.snapshot();
+                }
+                long snapshotRecoveryNanos;
+                try (PersistentPetRegistry registry = PersistentPetRegistry.open(registryDirectory, new HashMap<>())) {
+                    snapshotRecoveryNanos = registry.getRecoveryNanos();
+                }
+
+                System.out.println(String.format("%10d %14.0f %10d %19.3f мс %19.3f мс", groupSize, writeThroughput,
+                        syncCount, logRecoveryNanos / 1e6, snapshotRecoveryNanos / 1e6));
+                deleteRecursively(registryDirectory);
+            }
+            if (directory == null) {
+                deleteRecursively(root);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Помилка: " + e.getMessage());
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
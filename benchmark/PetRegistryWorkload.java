@@ -0,0 +1,276 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Клас PetRegistryWorkload - багатопотокове навантаження на реєстр тварин.
+ * 
+ * <p>Кожен потік виконує випадкову суміш операцій: з імовірністю {@code --read-ratio} читання,
+ * інакше зміна. З імовірністю {@code --owner-ratio} операція виконується за власником
+ * (пошук тварин власника або видалення всіх його тварин, тобто видалення за значенням),
+ * інакше за ключем (пошук, або додавання чи видалення запису порівну). Для кожної кількості потоків
+ * порівнюються реєстр з глобальним монітором (як у Hashtable) і {@link ConcurrentPetRegistry};
+ * виводиться пропускна здатність (оп/с) і прискорення відносно одного потоку.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * javac -d out *.java benchmark/*.java
+ * java -cp out PetRegistryWorkload --threads 1,2,4,8,16,32 --read-ratio 0.95
+ * java -cp out PetRegistryWorkload --threads 1,4,16 --read-ratio 0.5 --owner-ratio 0.3
+ * }
+ * </pre>
+ */
+public class PetRegistryWorkload {
+    private static final int DEFAULT_KEYS = 100_000;
+    private static final int DEFAULT_OWNERS = 1_000;
+    private static final double DEFAULT_READ_RATIO = 0.9;
+    private static final double DEFAULT_OWNER_RATIO = 0.1;
+    private static final long DEFAULT_WARMUP_MILLIS = 500;
+    private static final long DEFAULT_MEASUREMENT_MILLIS = 1_000;
+
+    private static final String USAGE_MESSAGE = "Використання: java PetRegistryWorkload [--threads <n,n,...>] [--read-ratio <0..1>] [--owner-ratio <0..1>]\n" +
+"                                   [--keys <n>] [--owners <n>] [--warmup <мс>] [--time <мс>]\n" +
+"Приклад:\n" +
+"  java PetRegistryWorkload --threads 1,4,16,32 --read-ratio 0.95";
+
+    private final BasicDataOperationUsingMap.Pet[] pets;
+    private final String[] owners;
+    private final double readRatio;
+    private final double ownerRatio;
+
+    private volatile boolean running;
+
+    /**
+     * Реєстр, що порівнюється: операції Map та операції за власником.
+     */
+    interface WorkloadRegistry extends Map<BasicDataOperationUsingMap.Pet, String> {
+        Set<BasicDataOperationUsingMap.Pet> findPetsByOwner(String owner);
+
+        Set<BasicDataOperationUsingMap.Pet> removeByOwner(String owner);
+    }
+
+    /**
+     * {@link PetRegistry} над Hashtable, у якому всі операції, разом з індексом власників,
+     * виконуються під одним монітором.
+     */
+    static final class GlobalLockPetRegistry extends PetRegistry implements WorkloadRegistry {
+        GlobalLockPetRegistry() {
+            super(new Hashtable<>());
+        }
+
+        @Override
+        public synchronized String put(BasicDataOperationUsingMap.Pet pet, String owner) {
+            return super.put(pet, owner);
+        }
+
+        @Override
+        public synchronized String remove(Object pet) {
+            return super.remove(pet);
+        }
+
+        @Override
+        public synchronized String get(Object pet) {
+            return super.get(pet);
+        }
+
+        @Override
+        public synchronized int size() {
+            return super.size();
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+        }
+
+        /**
+         * Повертає копію, бо подання індексу не можна читати поза монітором.
+         */
+        @Override
+        public synchronized Set<BasicDataOperationUsingMap.Pet> findPetsByOwner(String owner) {
+            return Set.copyOf(super.findPetsByOwner(owner));
+        }
+
+        @Override
+        public synchronized Set<BasicDataOperationUsingMap.Pet> removeByOwner(String owner) {
+            return super.removeByOwner(owner);
+        }
+    }
+
+    /**
+     * {@link ConcurrentPetRegistry} як реєстр для навантаження.
+     */
+    static final class ConcurrentWorkloadRegistry extends ConcurrentPetRegistry implements WorkloadRegistry {
+    }
+
+    /**
+     * Конструктор, який готує ключі та власників для навантаження.
+     * 
+     * @param keyCount Кількість різних тварин
+     * @param ownerCount Кількість різних власників
+     * @param readRatio Частка операцій читання
+     * @param ownerRatio Частка операцій за власником серед читань і змін
+     */
+    PetRegistryWorkload(int keyCount, int ownerCount, double readRatio, double ownerRatio) {
+        this.pets = new BasicDataOperationUsingMap.Pet[keyCount];
+        this.owners = new String[ownerCount];
+        this.readRatio = readRatio;
+        this.ownerRatio = ownerRatio;
+        for (int i = 0; i < keyCount; i++) {
+            pets[i] = BasicDataOperationUsingMap.Pet.of("Pet-" + i);
+        }
+        for (int i = 0; i < ownerCount; i++) {
+            owners[i] = "Owner-" + i;
+        }
+    }
+
+    public static void main(String[] args) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int[] threadCounts = defaultThreadCounts(processors);
+        int keys = DEFAULT_KEYS;
+        int owners = DEFAULT_OWNERS;
+        double readRatio = DEFAULT_READ_RATIO;
+        double ownerRatio = DEFAULT_OWNER_RATIO;
+        long warmupMillis = DEFAULT_WARMUP_MILLIS;
+        long measurementMillis = DEFAULT_MEASUREMENT_MILLIS;
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Відсутнє значення для " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--threads": threadCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray(); break;
+                    case "--read-ratio": readRatio = Double.parseDouble(value); break;
+                    case "--owner-ratio": ownerRatio = Double.parseDouble(value); break;
+                    case "--keys": keys = Integer.parseInt(value); break;
+                    case "--owners": owners = Integer.parseInt(value); break;
+                    case "--warmup": warmupMillis = Long.parseLong(value); break;
+                    case "--time": measurementMillis = Long.parseLong(value); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+            if (readRatio < 0 || readRatio > 1) {
+                throw new IllegalArgumentException("Частка читань має бути в діапазоні [0, 1]");
+            }
+            if (ownerRatio < 0 || ownerRatio > 1) {
+                throw new IllegalArgumentException("Частка операцій за власником має бути в діапазоні [0, 1]");
+            }
+            if (keys < 1 || owners < 1 || Arrays.stream(threadCounts).anyMatch(count -> count < 1)) {
+                throw new IllegalArgumentException("Кількості мають бути додатними");
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        Map<String, Supplier<WorkloadRegistry>> registries = new LinkedHashMap<>();
+        registries.put("Hashtable (глобальний монітор)", GlobalLockPetRegistry::new);
+        registries.put("ConcurrentPetRegistry", ConcurrentWorkloadRegistry::new);
+
+        PetRegistryWorkload workload = new PetRegistryWorkload(keys, owners, readRatio, ownerRatio);
+        System.out.println("Ключів: " + keys + ", власників: " + owners + ", частка читань: " + readRatio
+                + ", частка операцій за власником: " + ownerRatio + ", процесорів: " + processors);
+        System.out.println(String.format("%-34s %8s %18s %12s", "Реєстр", "Потоки", "оп/с", "Прискорення"));
+
+        for (Map.Entry<String, Supplier<WorkloadRegistry>> registry : registries.entrySet()) {
+            double singleThreadThroughput = 0;
+            for (int threadCount : threadCounts) {
+                workload.run(registry.getValue().get(), threadCount, warmupMillis);
+                double throughput = workload.run(registry.getValue().get(), threadCount, measurementMillis);
+                if (singleThreadThroughput == 0) {
+                    singleThreadThroughput = throughput / threadCount;
+                }
+                System.out.println(String.format("%-34s %8d %18.0f %11.2fx", registry.getKey(), threadCount,
+                        throughput, throughput / singleThreadThroughput));
+            }
+        }
+    }
+
+    private static int[] defaultThreadCounts(int processors) {
+        List<Integer> counts = new ArrayList<>();
+        for (int count = 1; count < processors; count *= 2) {
+            counts.add(count);
+        }
+        counts.add(processors);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Заповнює реєстр половиною ключів і виконує навантаження заданою кількістю потоків.
+     * 
+     * @param registry Реєстр для навантаження
+     * @param threadCount Кількість потоків
+     * @param durationMillis Тривалість навантаження в мілісекундах
+     * @return Пропускна здатність в операціях за секунду
+     */
+    double run(WorkloadRegistry registry, int threadCount, long durationMillis) {
+        for (int i = 0; i < pets.length; i += 2) {
+            registry.put(pets[i], owners[i % owners.length]);
+        }
+
+        long[] operationCounts = new long[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int slot = t;
+            threads[t] = new Thread(() -> operationCounts[slot] = runWorker(registry), "pet-workload-" + t);
+        }
+
+        running = true;
+        long timeStart = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        try {
+            Thread.sleep(durationMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - timeStart;
+
+        long totalOperations = Arrays.stream(operationCounts).sum();
+        return totalOperations * 1e9 / elapsedNanos;
+    }
+
+    private long runWorker(WorkloadRegistry registry) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long operations = 0;
+        while (running) {
+            BasicDataOperationUsingMap.Pet pet = pets[random.nextInt(pets.length)];
+            boolean read = random.nextDouble() < readRatio;
+            if (random.nextDouble() < ownerRatio) {
+                String owner = owners[random.nextInt(owners.length)];
+                if (read) {
+                    registry.findPetsByOwner(owner);
+                } else {
+                    registry.removeByOwner(owner);
+                }
+            } else if (read) {
+                registry.get(pet);
+            } else if (random.nextBoolean()) {
+                registry.put(pet, owners[random.nextInt(owners.length)]);
+            } else {
+                registry.remove(pet);
+            }
+            operations++;
+        }
+        return operations;
+    }
+}
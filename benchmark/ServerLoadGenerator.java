@@ -0,0 +1,128 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Клас ServerLoadGenerator навантажує {@link AnalysisServer} запитами з кількох потоків.
+ * 
+ * <p>Кожен потік по черзі надсилає запити з фіксованого набору (пошук, граничні значення,
+ * діапазон, k-те значення, часовий ряд, префікс, читання реєстру) через одне з'єднання
+ * HTTP/1.1 з повторним використанням. Після розігріву виводяться пропускна здатність і
+ * перцентилі затримки від клієнта до клієнта для кожного виду запиту.</p>
+ * 
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * javac -d out *.java benchmark/*.java
+ * java -cp out BasicDataOperation --serve --port 8080
+ * java -cp out ServerLoadGenerator --url http://127.0.0.1:8080 --requests 100000 --concurrency 8
+ * }
+ * </pre>
+ */
+public class ServerLoadGenerator {
+    private static final String[] REQUEST_PATHS = {
+        "/search?value=126",
+        "/minmax",
+        "/range?from=-10&to=10",
+        "/kth?k=0",
+        "/timeseries?from=2025-03-01T00:00:00Z&to=2025-04-01T00:00:00Z",
+        "/prefix?prefix=W",
+        "/map/get?pet=%D0%9B%D1%83%D0%BD%D0%B0",
+    };
+
+    private static final String USAGE_MESSAGE = "Використання: java ServerLoadGenerator [--url <адреса>] [--requests <n>] [--concurrency <n>] [--warmup <n>]\n" +
+"Приклад:\n" +
+"  java ServerLoadGenerator --url http://127.0.0.1:8080 --requests 100000 --concurrency 8";
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = "http://127.0.0.1:" + AnalysisServer.DEFAULT_PORT;
+        int requestCount = 20_000;
+        int concurrency = 4;
+        int warmupCount = 2_000;
+
+        try {
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Відсутнє значення для " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--url": baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value; break;
+                    case "--requests": requestCount = Integer.parseInt(value); break;
+                    case "--concurrency": concurrency = Integer.parseInt(value); break;
+                    case "--warmup": warmupCount = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("Невідомий параметр " + args[i]);
+                }
+            }
+            if (requestCount < 1 || concurrency < 1 || warmupCount < 0) {
+                throw new IllegalArgumentException("Кількості мають бути додатними");
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Помилка: " + e.getMessage());
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        List<HttpRequest> requests = new ArrayList<>();
+        for (String path : REQUEST_PATHS) {
+            requests.add(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build());
+        }
+
+        PerformanceTracker.setVerbose(false);
+        PerformanceTracker.setRecording(false);
+        AtomicLong errors = new AtomicLong();
+        runLoad(client, requests, warmupCount, concurrency, errors);
+
+        PerformanceTracker.reset();
+        PerformanceTracker.setRecording(true);
+        errors.set(0);
+        long timeStart = System.nanoTime();
+        runLoad(client, requests, requestCount, concurrency, errors);
+        long elapsed = System.nanoTime() - timeStart;
+
+        System.out.println(String.format("Запитів: %d, потоків: %d, помилок: %d", requestCount, concurrency, errors.get()));
+        System.out.println(String.format("Тривалість: %.3f с, пропускна здатність: %.0f запитів/с, середня затримка: %.1f мкс",
+                elapsed / 1e9, requestCount / (elapsed / 1e9), elapsed / 1e3 * concurrency / requestCount));
+        PerformanceTracker.printPercentileSummary();
+    }
+
+    private static void runLoad(HttpClient client, List<HttpRequest> requests, int requestCount, int concurrency,
+            AtomicLong errors) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        AtomicLong nextRequest = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < concurrency; worker++) {
+            futures.add(workers.submit(() -> {
+                long index;
+                while ((index = nextRequest.getAndIncrement()) < requestCount) {
+                    HttpRequest request = requests.get((int) (index % requests.size()));
+                    long timeStart = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    PerformanceTracker.recordOperationTime("клієнт " + request.uri().getPath(), System.nanoTime() - timeStart);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+    }
+}